@@ -18,3 +18,7 @@ plugins {
     alias(libs.plugins.aggregated.javadoc.collector)
     alias(libs.plugins.mavenPublication)
 }
+
+dependencies {
+    api(projects.serializationCore)
+}
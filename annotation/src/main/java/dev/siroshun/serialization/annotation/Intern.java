@@ -0,0 +1,45 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation for indicating that equal deserialized values of the annotated field should share one instance.
+ * <p>
+ * This is useful for values that repeat many times in inputs, such as codes and names.
+ * The values must be immutable.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({
+        ElementType.CONSTRUCTOR,
+        ElementType.FIELD,
+        ElementType.RECORD_COMPONENT
+})
+public @interface Intern {
+
+    /**
+     * Returns the maximum number of instances to keep.
+     *
+     * @return the maximum number of instances to keep
+     */
+    int maximumSize() default 1024;
+
+}
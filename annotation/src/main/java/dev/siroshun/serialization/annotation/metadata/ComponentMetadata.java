@@ -0,0 +1,269 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.annotation.metadata;
+
+import dev.siroshun.serialization.annotation.CollectionType;
+import dev.siroshun.serialization.annotation.Comment;
+import dev.siroshun.serialization.annotation.Inline;
+import dev.siroshun.serialization.annotation.Intern;
+import dev.siroshun.serialization.annotation.MapType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The metadata of a record component, resolved from the component and its annotations.
+ */
+public final class ComponentMetadata {
+
+    private final int index;
+    private final String name;
+    private final Class<?> type;
+    private final Type genericType;
+    private final MethodHandle accessor;
+    private final Function<Object, Object> getter;
+    private final Supplier<Object> defaultValue;
+    private final boolean inline;
+    private final @Nullable Comment comment;
+    private final @Nullable Intern intern;
+    private final @Nullable Class<?> collectionType;
+    private final @Nullable MapType mapType;
+
+    ComponentMetadata(@NotNull MethodHandles.Lookup lookup, @NotNull RecordComponent component, int index) {
+        this.index = index;
+        this.name = component.getName();
+        this.type = component.getType();
+        this.genericType = component.getGenericType();
+
+        MethodHandle direct;
+
+        try {
+            direct = lookup.unreflect(component.getAccessor());
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the component " + this.name + " of " + component.getDeclaringRecord().getName(), e);
+        }
+
+        this.accessor = direct.asType(MethodType.methodType(Object.class, Object.class));
+        this.getter = createGetter(lookup, direct, this.accessor);
+
+        this.defaultValue = DefaultValues.resolve(component, this.type);
+        this.inline = component.isAnnotationPresent(Inline.class);
+        this.comment = component.getAnnotation(Comment.class);
+        this.intern = component.getAnnotation(Intern.class);
+
+        var collectionType = component.getAnnotation(CollectionType.class);
+        this.collectionType = collectionType != null ? collectionType.value() : null;
+        this.mapType = component.getAnnotation(MapType.class);
+    }
+
+    /**
+     * Gets the index of this component in the declaration order.
+     *
+     * @return the index of this component
+     */
+    public int index() {
+        return this.index;
+    }
+
+    /**
+     * Gets the name of this component.
+     *
+     * @return the name of this component
+     */
+    public @NotNull String name() {
+        return this.name;
+    }
+
+    /**
+     * Gets the type of this component.
+     *
+     * @return the type of this component
+     */
+    public @NotNull Class<?> type() {
+        return this.type;
+    }
+
+    /**
+     * Gets the generic type of this component.
+     *
+     * @return the generic type of this component
+     */
+    public @NotNull Type genericType() {
+        return this.genericType;
+    }
+
+    /**
+     * Gets the {@link MethodHandle} of the accessor.
+     * <p>
+     * The returning {@link MethodHandle} has the type {@code (Object)Object}.
+     *
+     * @return the {@link MethodHandle} of the accessor
+     */
+    public @NotNull MethodHandle accessor() {
+        return this.accessor;
+    }
+
+    /**
+     * Gets the {@link Function} that returns the value of this component from the record.
+     * <p>
+     * If the record is accessible with full privileges, the returning {@link Function} is a hidden class
+     * spun by {@link LambdaMetafactory} that calls the accessor directly.
+     * Otherwise, it invokes {@link #accessor()}.
+     *
+     * @return the {@link Function} that returns the value of this component
+     */
+    public @NotNull Function<Object, Object> getter() {
+        return this.getter;
+    }
+
+    /**
+     * Gets the value of this component from the record.
+     *
+     * @param record the record
+     * @return the value of this component
+     */
+    public @Nullable Object get(@NotNull Object record) {
+        return this.getter.apply(record);
+    }
+
+    /**
+     * Gets the default value of this component.
+     * <p>
+     * The default value is specified by {@code @Default*} annotations.
+     * If no annotation is present, this returns the zero value for primitives and {@code null} for others.
+     * The value is computed on each call for {@link dev.siroshun.serialization.annotation.DefaultMethod}.
+     *
+     * @return the default value of this component
+     */
+    public @Nullable Object defaultValue() {
+        return this.defaultValue.get();
+    }
+
+    /**
+     * Checks if {@link #defaultValue()} always returns the same value.
+     * <p>
+     * This returns {@code false} only for {@link dev.siroshun.serialization.annotation.DefaultMethod},
+     * so that codecs can convert the other default values once and reuse them.
+     *
+     * @return {@code true} if {@link #defaultValue()} always returns the same value, otherwise {@code false}
+     */
+    public boolean isDefaultValueConstant() {
+        return DefaultValues.isConstant(this.defaultValue);
+    }
+
+    /**
+     * Checks if this component is annotated with {@link Inline}.
+     *
+     * @return {@code true} if this component is annotated with {@link Inline}, otherwise {@code false}
+     */
+    public boolean isInline() {
+        return this.inline;
+    }
+
+    /**
+     * Gets the {@link Comment} of this component.
+     *
+     * @return the {@link Comment} of this component, or {@code null} if not present
+     */
+    public @Nullable Comment comment() {
+        return this.comment;
+    }
+
+    /**
+     * Gets the {@link Intern} of this component.
+     *
+     * @return the {@link Intern} of this component, or {@code null} if not present
+     */
+    public @Nullable Intern intern() {
+        return this.intern;
+    }
+
+    /**
+     * Gets the element type specified by {@link CollectionType}.
+     *
+     * @return the element type, or {@code null} if not specified
+     */
+    public @Nullable Class<?> collectionType() {
+        return this.collectionType;
+    }
+
+    /**
+     * Gets the key type specified by {@link MapType}.
+     *
+     * @return the key type, or {@code null} if not specified
+     */
+    public @Nullable Class<?> mapKeyType() {
+        return this.mapType != null ? this.mapType.key() : null;
+    }
+
+    /**
+     * Gets the value type specified by {@link MapType}.
+     *
+     * @return the value type, or {@code null} if not specified
+     */
+    public @Nullable Class<?> mapValueType() {
+        return this.mapType != null ? this.mapType.value() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Function<Object, Object> createGetter(@NotNull MethodHandles.Lookup lookup, @NotNull MethodHandle direct,
+                                                                  @NotNull MethodHandle accessor) {
+        if (lookup.hasFullPrivilegeAccess()) {
+            try {
+                var callSite = LambdaMetafactory.metafactory(
+                        lookup,
+                        "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        direct,
+                        direct.type().wrap()
+                );
+                return (Function<Object, Object>) callSite.getTarget().invokeExact();
+            } catch (LambdaConversionException ignored) {
+                // falls back to the MethodHandle
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return record -> {
+            try {
+                return (Object) accessor.invokeExact(record);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentMetadata{" + this.name + ": " + this.genericType.getTypeName() + "}";
+    }
+}
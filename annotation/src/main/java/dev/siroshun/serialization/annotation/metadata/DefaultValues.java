@@ -0,0 +1,173 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.annotation.metadata;
+
+import dev.siroshun.serialization.annotation.DefaultBoolean;
+import dev.siroshun.serialization.annotation.DefaultByte;
+import dev.siroshun.serialization.annotation.DefaultChar;
+import dev.siroshun.serialization.annotation.DefaultDouble;
+import dev.siroshun.serialization.annotation.DefaultEnum;
+import dev.siroshun.serialization.annotation.DefaultField;
+import dev.siroshun.serialization.annotation.DefaultFloat;
+import dev.siroshun.serialization.annotation.DefaultInt;
+import dev.siroshun.serialization.annotation.DefaultLong;
+import dev.siroshun.serialization.annotation.DefaultMethod;
+import dev.siroshun.serialization.annotation.DefaultNull;
+import dev.siroshun.serialization.annotation.DefaultShort;
+import dev.siroshun.serialization.annotation.DefaultString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.function.Supplier;
+
+final class DefaultValues {
+
+    private static final Supplier<Object> NULL = new Constant(null);
+
+    private static final Map<Class<?>, Object> PRIMITIVE_ZEROS = Map.of(
+            boolean.class, false,
+            byte.class, (byte) 0,
+            char.class, '\0',
+            short.class, (short) 0,
+            int.class, 0,
+            long.class, 0L,
+            float.class, 0f,
+            double.class, 0d
+    );
+
+    static @NotNull Supplier<Object> resolve(@NotNull AnnotatedElement element, @NotNull Class<?> type) {
+        var value = resolveAnnotated(element, type);
+
+        if (value != null) {
+            return value;
+        }
+
+        var zero = PRIMITIVE_ZEROS.get(type);
+        return zero != null ? new Constant(zero) : NULL;
+    }
+
+    private static @Nullable Supplier<Object> resolveAnnotated(@NotNull AnnotatedElement element, @NotNull Class<?> type) {
+        if (element.isAnnotationPresent(DefaultNull.class)) {
+            return type.isPrimitive() ? null : NULL;
+        }
+
+        Object constant;
+
+        if (element.getAnnotation(DefaultBoolean.class) instanceof DefaultBoolean a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultByte.class) instanceof DefaultByte a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultChar.class) instanceof DefaultChar a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultShort.class) instanceof DefaultShort a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultInt.class) instanceof DefaultInt a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultLong.class) instanceof DefaultLong a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultFloat.class) instanceof DefaultFloat a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultDouble.class) instanceof DefaultDouble a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultString.class) instanceof DefaultString a) {
+            constant = a.value();
+        } else if (element.getAnnotation(DefaultEnum.class) instanceof DefaultEnum a) {
+            constant = enumConstant(type, a.value());
+        } else if (element.getAnnotation(DefaultField.class) instanceof DefaultField a) {
+            constant = staticField(a.clazz(), a.name());
+        } else if (element.getAnnotation(DefaultMethod.class) instanceof DefaultMethod a) {
+            return staticMethod(a.clazz(), a.name());
+        } else {
+            return null;
+        }
+
+        return new Constant(constant);
+    }
+
+    static boolean isConstant(@NotNull Supplier<Object> defaultValue) {
+        return defaultValue instanceof Constant;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull Object enumConstant(@NotNull Class<?> type, @NotNull String name) {
+        if (!type.isEnum()) {
+            throw new IllegalArgumentException("@DefaultEnum is specified for non-enum type: " + type.getName());
+        }
+
+        return Enum.valueOf((Class) type, name);
+    }
+
+    private static @Nullable Object staticField(@NotNull Class<?> clazz, @NotNull String name) {
+        try {
+            var field = clazz.getDeclaredField(name);
+
+            if (!Modifier.isStatic(field.getModifiers())) {
+                throw new IllegalArgumentException("The field " + name + " in " + clazz.getName() + " is not static.");
+            }
+
+            return RecordMetadata.lookup(clazz).unreflectGetter(field).invoke();
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the field " + name + " in " + clazz.getName(), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static @NotNull Supplier<Object> staticMethod(@NotNull Class<?> clazz, @NotNull String name) {
+        MethodHandle handle;
+
+        try {
+            var method = clazz.getDeclaredMethod(name);
+
+            if (!Modifier.isStatic(method.getModifiers())) {
+                throw new IllegalArgumentException("The method " + name + " in " + clazz.getName() + " is not static.");
+            }
+
+            handle = RecordMetadata.lookup(clazz).unreflect(method).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the method " + name + " in " + clazz.getName(), e);
+        }
+
+        return () -> {
+            try {
+                return (Object) handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private DefaultValues() {
+        throw new UnsupportedOperationException();
+    }
+
+    private record Constant(@Nullable Object value) implements Supplier<Object> {
+        @Override
+        public Object get() {
+            return this.value;
+        }
+    }
+}
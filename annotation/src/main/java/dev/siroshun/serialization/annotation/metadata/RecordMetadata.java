@@ -0,0 +1,183 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.annotation.metadata;
+
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * The metadata of a record class, resolved from its components and their annotations.
+ * <p>
+ * {@link RecordMetadata} is computed once per record class and cached with {@link ClassValue},
+ * so the reflective calls, the annotation lookups, and the key generations are performed only once,
+ * and the cache does not prevent the record class from being unloaded.
+ * <p>
+ * To access non-public records, the package of the record must be open to {@code dev.siroshun.serialization.annotation}.
+ *
+ * @param <R> the type of the record
+ */
+public final class RecordMetadata<R extends Record> {
+
+    private static final ClassValue<RecordMetadata<?>> CACHE = new ClassValue<>() {
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        @Override
+        protected RecordMetadata<?> computeValue(@NotNull Class<?> type) {
+            return new RecordMetadata(type);
+        }
+    };
+
+    /**
+     * Gets the {@link RecordMetadata} of the record class.
+     *
+     * @param recordClass the record class
+     * @param <R>         the type of the record
+     * @return the {@link RecordMetadata} of the record class
+     * @throws IllegalArgumentException if the class is not a record, or the record or its annotations cannot be accessed
+     */
+    @SuppressWarnings("unchecked")
+    public static <R extends Record> @NotNull RecordMetadata<R> get(@NotNull Class<R> recordClass) {
+        Objects.requireNonNull(recordClass);
+
+        if (!recordClass.isRecord()) {
+            throw new IllegalArgumentException(recordClass.getName() + " is not a record class.");
+        }
+
+        return (RecordMetadata<R>) CACHE.get(recordClass);
+    }
+
+    static @NotNull MethodHandles.Lookup lookup(@NotNull Class<?> clazz) {
+        RecordMetadata.class.getModule().addReads(clazz.getModule());
+
+        try {
+            return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    private final Class<R> recordClass;
+    private final List<ComponentMetadata> components;
+    private final MethodHandle constructor;
+    // weak keys not to keep KeyGenerators (and their class loaders) as long as the record class
+    private final Map<KeyGenerator, List<String>> keys = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private RecordMetadata(@NotNull Class<R> recordClass) {
+        this.recordClass = recordClass;
+
+        var lookup = lookup(recordClass);
+        var recordComponents = recordClass.getRecordComponents();
+        var components = new ComponentMetadata[recordComponents.length];
+        var types = new Class<?>[recordComponents.length];
+
+        for (int i = 0; i < recordComponents.length; i++) {
+            components[i] = new ComponentMetadata(lookup, recordComponents[i], i);
+            types[i] = recordComponents[i].getType();
+        }
+
+        this.components = List.of(components);
+
+        try {
+            this.constructor = lookup.findConstructor(recordClass, MethodType.methodType(void.class, types))
+                    .asSpreader(Object[].class, types.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the canonical constructor of " + recordClass.getName(), e);
+        }
+    }
+
+    /**
+     * Gets the record class.
+     *
+     * @return the record class
+     */
+    public @NotNull Class<R> recordClass() {
+        return this.recordClass;
+    }
+
+    /**
+     * Gets the {@link ComponentMetadata}s in the declaration order.
+     *
+     * @return the {@link ComponentMetadata}s in the declaration order
+     */
+    public @NotNull List<ComponentMetadata> components() {
+        return this.components;
+    }
+
+    /**
+     * Gets the keys of the components generated by the {@link KeyGenerator}.
+     * <p>
+     * The keys are generated once per {@link KeyGenerator} and are in the declaration order of the components.
+     * The cached keys are discarded when the {@link KeyGenerator} is no longer strongly reachable.
+     *
+     * @param keyGenerator the {@link KeyGenerator} to generate keys
+     * @return the keys of the components
+     */
+    public @NotNull List<String> keys(@NotNull KeyGenerator keyGenerator) {
+        Objects.requireNonNull(keyGenerator);
+        return this.keys.computeIfAbsent(keyGenerator, generator -> this.components.stream().map(component -> generator.generate(component.name())).toList());
+    }
+
+    /**
+     * Gets the {@link MethodHandle} of the canonical constructor.
+     * <p>
+     * The returning {@link MethodHandle} has the type {@code (Object[])Object} and receives the arguments in the declaration order.
+     *
+     * @return the {@link MethodHandle} of the canonical constructor
+     */
+    public @NotNull MethodHandle constructor() {
+        return this.constructor;
+    }
+
+    /**
+     * Creates a new record from the arguments.
+     * <p>
+     * The canonical constructor is invoked through {@link #constructor()}, so the arguments are cast or unboxed
+     * to the types of the components, and {@code null} for a primitive component causes {@link NullPointerException}.
+     *
+     * @param args the arguments in the declaration order of the components
+     * @return a new record
+     * @throws IllegalArgumentException if the number of the arguments does not match
+     */
+    public @NotNull R newInstance(@Nullable Object @NotNull ... args) {
+        if (args.length != this.components.size()) {
+            throw new IllegalArgumentException("Expected " + this.components.size() + " arguments, but got " + args.length);
+        }
+
+        try {
+            return this.recordClass.cast((Object) this.constructor.invokeExact(args));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RecordMetadata{" + this.recordClass.getName() + "}";
+    }
+}
@@ -2,7 +2,9 @@
  * A module providing serialization related annotations.
  */
 module dev.siroshun.serialization.annotation {
+    requires transitive dev.siroshun.serialization.core;
     requires org.jetbrains.annotations;
 
     exports dev.siroshun.serialization.annotation;
+    exports dev.siroshun.serialization.annotation.metadata;
 }
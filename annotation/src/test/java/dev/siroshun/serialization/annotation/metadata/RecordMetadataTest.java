@@ -0,0 +1,107 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.annotation.metadata;
+
+import dev.siroshun.serialization.annotation.CollectionType;
+import dev.siroshun.serialization.annotation.Comment;
+import dev.siroshun.serialization.annotation.DefaultInt;
+import dev.siroshun.serialization.annotation.DefaultNull;
+import dev.siroshun.serialization.annotation.Inline;
+import dev.siroshun.serialization.annotation.MapType;
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+class RecordMetadataTest {
+
+    @Test
+    void testComponents() {
+        var metadata = RecordMetadata.get(Sample.class);
+        var components = metadata.components();
+
+        Assertions.assertSame(metadata, RecordMetadata.get(Sample.class));
+        Assertions.assertEquals(List.of("firstValue", "list", "map", "inner"), components.stream().map(ComponentMetadata::name).toList());
+
+        Assertions.assertEquals(5, components.get(0).defaultValue());
+        Assertions.assertEquals("first", components.get(0).comment().value());
+        Assertions.assertSame(String.class, components.get(1).collectionType());
+        Assertions.assertNull(components.get(1).defaultValue());
+        Assertions.assertSame(String.class, components.get(2).mapKeyType());
+        Assertions.assertSame(Long.class, components.get(2).mapValueType());
+        Assertions.assertTrue(components.get(3).isInline());
+        Assertions.assertFalse(components.get(0).isInline());
+    }
+
+    @Test
+    void testAccessorsAndConstructor() {
+        var metadata = RecordMetadata.get(Sample.class);
+        var sample = metadata.newInstance(1, List.of("a"), Map.of("b", 2L), new Inner(0L));
+
+        Assertions.assertEquals(new Sample(1, List.of("a"), Map.of("b", 2L), new Inner(0L)), sample);
+
+        for (var component : metadata.components()) {
+            Assertions.assertNotNull(component.get(sample));
+        }
+
+        Assertions.assertEquals(0L, RecordMetadata.get(Inner.class).components().get(0).defaultValue());
+        Assertions.assertEquals(new Sample(1, null, null, null), metadata.newInstance(1, null, null, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> metadata.newInstance(1));
+        Assertions.assertThrows(NullPointerException.class, () -> metadata.newInstance(null, null, null, null));
+        Assertions.assertThrows(ClassCastException.class, () -> metadata.newInstance("1", null, null, null));
+    }
+
+    @Test
+    void testGetter() {
+        var component = RecordMetadata.get(Inner.class).components().get(0);
+
+        Assertions.assertTrue(component.getter().getClass().isHidden());
+        Assertions.assertEquals(10L, component.getter().apply(new Inner(10L)));
+        Assertions.assertEquals(10L, component.get(new Inner(10L)));
+    }
+
+    @Test
+    void testKeys() {
+        var metadata = RecordMetadata.get(Sample.class);
+        var keys = metadata.keys(KeyGenerator.CAMEL_TO_KEBAB);
+
+        Assertions.assertEquals(List.of("first-value", "list", "map", "inner"), keys);
+        Assertions.assertSame(keys, metadata.keys(KeyGenerator.CAMEL_TO_KEBAB));
+
+        KeyGenerator upper = source -> source.toUpperCase(Locale.ROOT);
+        Assertions.assertEquals(List.of("FIRSTVALUE", "LIST", "MAP", "INNER"), metadata.keys(upper));
+        Assertions.assertSame(metadata.keys(upper), metadata.keys(upper));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void testNotRecord() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordMetadata.get((Class) String.class));
+    }
+
+    record Sample(@Comment("first") @DefaultInt(5) int firstValue,
+                  @CollectionType(String.class) @DefaultNull List<String> list,
+                  @MapType(key = String.class, value = Long.class) Map<String, Long> map,
+                  @Inline Inner inner) {
+    }
+
+    record Inner(long value) {
+    }
+}
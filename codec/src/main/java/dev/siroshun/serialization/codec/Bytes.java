@@ -0,0 +1,144 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * A utility class to read/write primitive values from/to byte arrays in big-endian order without boxing.
+ */
+public final class Bytes {
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle CHAR = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    /**
+     * Writes the {@code short} value to the byte array.
+     *
+     * @param array  the byte array to write to
+     * @param offset the offset to write at
+     * @param value  the value to write
+     */
+    public static void writeShort(byte @NotNull [] array, int offset, short value) {
+        SHORT.set(array, offset, value);
+    }
+
+    /**
+     * Reads the {@code short} value from the byte array.
+     *
+     * @param array  the byte array to read from
+     * @param offset the offset to read at
+     * @return the read value
+     */
+    public static short readShort(byte @NotNull [] array, int offset) {
+        return (short) SHORT.get(array, offset);
+    }
+
+    /**
+     * Writes the {@code char} value to the byte array.
+     *
+     * @param array  the byte array to write to
+     * @param offset the offset to write at
+     * @param value  the value to write
+     */
+    public static void writeChar(byte @NotNull [] array, int offset, char value) {
+        CHAR.set(array, offset, value);
+    }
+
+    /**
+     * Reads the {@code char} value from the byte array.
+     *
+     * @param array  the byte array to read from
+     * @param offset the offset to read at
+     * @return the read value
+     */
+    public static char readChar(byte @NotNull [] array, int offset) {
+        return (char) CHAR.get(array, offset);
+    }
+
+    /**
+     * Writes the {@code int} value to the byte array.
+     *
+     * @param array  the byte array to write to
+     * @param offset the offset to write at
+     * @param value  the value to write
+     */
+    public static void writeInt(byte @NotNull [] array, int offset, int value) {
+        INT.set(array, offset, value);
+    }
+
+    /**
+     * Reads the {@code int} value from the byte array.
+     *
+     * @param array  the byte array to read from
+     * @param offset the offset to read at
+     * @return the read value
+     */
+    public static int readInt(byte @NotNull [] array, int offset) {
+        return (int) INT.get(array, offset);
+    }
+
+    /**
+     * Writes the {@code long} value to the byte array.
+     *
+     * @param array  the byte array to write to
+     * @param offset the offset to write at
+     * @param value  the value to write
+     */
+    public static void writeLong(byte @NotNull [] array, int offset, long value) {
+        LONG.set(array, offset, value);
+    }
+
+    /**
+     * Reads the {@code long} value from the byte array.
+     *
+     * @param array  the byte array to read from
+     * @param offset the offset to read at
+     * @return the read value
+     */
+    public static long readLong(byte @NotNull [] array, int offset) {
+        return (long) LONG.get(array, offset);
+    }
+
+    static void checkLength(byte @NotNull [] array, int expected) {
+        if (array.length != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " bytes, but got " + array.length + " bytes.");
+        }
+    }
+
+    static void checkMultiple(byte @NotNull [] array, int elementSize) {
+        if (array.length % elementSize != 0) {
+            throw new IllegalArgumentException("The length of bytes (" + array.length + ") is not a multiple of " + elementSize + ".");
+        }
+    }
+
+    static void checkMinimum(byte @NotNull [] array, int minimum) {
+        if (array.length < minimum) {
+            throw new IllegalArgumentException("Expected at least " + minimum + " bytes, but got " + array.length + " bytes.");
+        }
+    }
+
+    private Bytes() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec;
+
+import dev.siroshun.serialization.codec.collection.IntList;
+import dev.siroshun.serialization.codec.collection.IntLongMap;
+import dev.siroshun.serialization.codec.collection.LongList;
+import dev.siroshun.serialization.codec.collection.PrimitiveCollections;
+import dev.siroshun.serialization.core.Serialization;
+import dev.siroshun.serialization.core.registry.SerializationRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A class that provides the standard codecs that serialize JDK types to byte arrays.
+ * <p>
+ * All multibyte values are written in big-endian order.
+ * The {@link Serialization}s in this class are stateless and can be shared between threads.
+ */
+public final class StandardCodecs {
+
+    /**
+     * A {@link Serialization} for {@link Boolean}s.
+     */
+    public static final Serialization<Boolean, byte[]> BOOLEAN = Serialization.create(
+            value -> new byte[]{(byte) (value ? 1 : 0)},
+            bytes -> {
+                Bytes.checkLength(bytes, 1);
+                return bytes[0] != 0;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Byte}s.
+     */
+    public static final Serialization<Byte, byte[]> BYTE = Serialization.create(
+            value -> new byte[]{value},
+            bytes -> {
+                Bytes.checkLength(bytes, Byte.BYTES);
+                return bytes[0];
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Short}s.
+     */
+    public static final Serialization<Short, byte[]> SHORT = Serialization.create(
+            value -> {
+                var bytes = new byte[Short.BYTES];
+                Bytes.writeShort(bytes, 0, value);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Short.BYTES);
+                return Bytes.readShort(bytes, 0);
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Character}s.
+     */
+    public static final Serialization<Character, byte[]> CHAR = Serialization.create(
+            value -> {
+                var bytes = new byte[Character.BYTES];
+                Bytes.writeChar(bytes, 0, value);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Character.BYTES);
+                return Bytes.readChar(bytes, 0);
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Integer}s.
+     */
+    public static final Serialization<Integer, byte[]> INT = Serialization.create(
+            value -> {
+                var bytes = new byte[Integer.BYTES];
+                Bytes.writeInt(bytes, 0, value);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Integer.BYTES);
+                return Bytes.readInt(bytes, 0);
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Long}s.
+     */
+    public static final Serialization<Long, byte[]> LONG = Serialization.create(
+            value -> {
+                var bytes = new byte[Long.BYTES];
+                Bytes.writeLong(bytes, 0, value);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Long.BYTES);
+                return Bytes.readLong(bytes, 0);
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Float}s.
+     */
+    public static final Serialization<Float, byte[]> FLOAT = Serialization.create(
+            value -> {
+                var bytes = new byte[Float.BYTES];
+                Bytes.writeInt(bytes, 0, Float.floatToRawIntBits(value));
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Float.BYTES);
+                return Float.intBitsToFloat(Bytes.readInt(bytes, 0));
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Double}s.
+     */
+    public static final Serialization<Double, byte[]> DOUBLE = Serialization.create(
+            value -> {
+                var bytes = new byte[Double.BYTES];
+                Bytes.writeLong(bytes, 0, Double.doubleToRawLongBits(value));
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Double.BYTES);
+                return Double.longBitsToDouble(Bytes.readLong(bytes, 0));
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link String}s that uses UTF-8.
+     */
+    public static final Serialization<String, byte[]> STRING = Serialization.create(
+            value -> value.getBytes(StandardCharsets.UTF_8),
+            bytes -> new String(bytes, StandardCharsets.UTF_8)
+    );
+
+    /**
+     * A {@link Serialization} for {@link UUID}s that writes the most and least significant bits as two longs.
+     */
+    public static final Serialization<UUID, byte[]> UUID_CODEC = Serialization.create(
+            value -> {
+                var bytes = new byte[Long.BYTES * 2];
+                Bytes.writeLong(bytes, 0, value.getMostSignificantBits());
+                Bytes.writeLong(bytes, Long.BYTES, value.getLeastSignificantBits());
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkLength(bytes, Long.BYTES * 2);
+                return new UUID(Bytes.readLong(bytes, 0), Bytes.readLong(bytes, Long.BYTES));
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link BigInteger}s that uses the two's-complement representation.
+     */
+    public static final Serialization<BigInteger, byte[]> BIG_INTEGER = Serialization.create(
+            BigInteger::toByteArray,
+            bytes -> {
+                Bytes.checkMinimum(bytes, 1);
+                return new BigInteger(bytes);
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link BigDecimal}s that writes the scale as an int followed by the unscaled value.
+     */
+    public static final Serialization<BigDecimal, byte[]> BIG_DECIMAL = Serialization.create(
+            value -> {
+                var unscaled = value.unscaledValue().toByteArray();
+                var bytes = new byte[Integer.BYTES + unscaled.length];
+                Bytes.writeInt(bytes, 0, value.scale());
+                System.arraycopy(unscaled, 0, bytes, Integer.BYTES, unscaled.length);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMinimum(bytes, Integer.BYTES + 1);
+                return new BigDecimal(new BigInteger(bytes, Integer.BYTES, bytes.length - Integer.BYTES), Bytes.readInt(bytes, 0));
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Instant}s that writes the epoch seconds as a long followed by the nanos as an int.
+     */
+    public static final Serialization<Instant, byte[]> INSTANT = Serialization.create(
+            value -> secondsAndNanos(value.getEpochSecond(), value.getNano()),
+            bytes -> {
+                Bytes.checkLength(bytes, Long.BYTES + Integer.BYTES);
+                return Instant.ofEpochSecond(Bytes.readLong(bytes, 0), Bytes.readInt(bytes, Long.BYTES));
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@link Duration}s that writes the seconds as a long followed by the nanos as an int.
+     */
+    public static final Serialization<Duration, byte[]> DURATION = Serialization.create(
+            value -> secondsAndNanos(value.getSeconds(), value.getNano()),
+            bytes -> {
+                Bytes.checkLength(bytes, Long.BYTES + Integer.BYTES);
+                return Duration.ofSeconds(Bytes.readLong(bytes, 0), Bytes.readInt(bytes, Long.BYTES));
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code byte[]}s that copies the array.
+     */
+    public static final Serialization<byte[], byte[]> BYTE_ARRAY = Serialization.create(
+            byte[]::clone,
+            byte[]::clone
+    );
+
+    /**
+     * A {@link Serialization} for {@code boolean[]}s that writes each element as a byte.
+     */
+    public static final Serialization<boolean[], byte[]> BOOLEAN_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length];
+                for (int i = 0; i < array.length; i++) {
+                    bytes[i] = (byte) (array[i] ? 1 : 0);
+                }
+                return bytes;
+            },
+            bytes -> {
+                var array = new boolean[bytes.length];
+                for (int i = 0; i < bytes.length; i++) {
+                    array[i] = bytes[i] != 0;
+                }
+                return array;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code short[]}s.
+     */
+    public static final Serialization<short[], byte[]> SHORT_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length * Short.BYTES];
+                ByteBuffer.wrap(bytes).asShortBuffer().put(array);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMultiple(bytes, Short.BYTES);
+                var array = new short[bytes.length / Short.BYTES];
+                ByteBuffer.wrap(bytes).asShortBuffer().get(array);
+                return array;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code char[]}s.
+     */
+    public static final Serialization<char[], byte[]> CHAR_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length * Character.BYTES];
+                ByteBuffer.wrap(bytes).asCharBuffer().put(array);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMultiple(bytes, Character.BYTES);
+                var array = new char[bytes.length / Character.BYTES];
+                ByteBuffer.wrap(bytes).asCharBuffer().get(array);
+                return array;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code int[]}s.
+     */
+    public static final Serialization<int[], byte[]> INT_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length * Integer.BYTES];
+                ByteBuffer.wrap(bytes).asIntBuffer().put(array);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMultiple(bytes, Integer.BYTES);
+                var array = new int[bytes.length / Integer.BYTES];
+                ByteBuffer.wrap(bytes).asIntBuffer().get(array);
+                return array;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code long[]}s.
+     */
+    public static final Serialization<long[], byte[]> LONG_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length * Long.BYTES];
+                ByteBuffer.wrap(bytes).asLongBuffer().put(array);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMultiple(bytes, Long.BYTES);
+                var array = new long[bytes.length / Long.BYTES];
+                ByteBuffer.wrap(bytes).asLongBuffer().get(array);
+                return array;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code float[]}s.
+     */
+    public static final Serialization<float[], byte[]> FLOAT_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length * Float.BYTES];
+                ByteBuffer.wrap(bytes).asFloatBuffer().put(array);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMultiple(bytes, Float.BYTES);
+                var array = new float[bytes.length / Float.BYTES];
+                ByteBuffer.wrap(bytes).asFloatBuffer().get(array);
+                return array;
+            }
+    );
+
+    /**
+     * A {@link Serialization} for {@code double[]}s.
+     */
+    public static final Serialization<double[], byte[]> DOUBLE_ARRAY = Serialization.create(
+            array -> {
+                var bytes = new byte[array.length * Double.BYTES];
+                ByteBuffer.wrap(bytes).asDoubleBuffer().put(array);
+                return bytes;
+            },
+            bytes -> {
+                Bytes.checkMultiple(bytes, Double.BYTES);
+                var array = new double[bytes.length / Double.BYTES];
+                ByteBuffer.wrap(bytes).asDoubleBuffer().get(array);
+                return array;
+            }
+    );
+
+    private static final SerializationRegistry<byte[]> REGISTRY = createRegistry();
+
+    /**
+     * Gets the frozen {@link SerializationRegistry} that contains all codecs in this class.
+     * <p>
+     * The codecs for boxed primitives are also registered for their primitive classes (e.g. {@code int.class}),
+     * and the codecs in {@link PrimitiveCollections} are registered for the primitive collections.
+     * <p>
+     * The returning registry is shared, so use {@link SerializationRegistry#fork()} or
+     * {@link SerializationRegistry#layered(SerializationRegistry, SerializationRegistry)} to add other codecs.
+     *
+     * @return the frozen {@link SerializationRegistry} that contains all codecs in this class
+     */
+    public static @NotNull SerializationRegistry<byte[]> registry() {
+        return REGISTRY;
+    }
+
+    private static @NotNull SerializationRegistry<byte[]> createRegistry() {
+        return SerializationRegistry.frozen(Map.ofEntries(
+                Map.entry(Boolean.class, BOOLEAN), Map.entry(boolean.class, BOOLEAN),
+                Map.entry(Byte.class, BYTE), Map.entry(byte.class, BYTE),
+                Map.entry(Short.class, SHORT), Map.entry(short.class, SHORT),
+                Map.entry(Character.class, CHAR), Map.entry(char.class, CHAR),
+                Map.entry(Integer.class, INT), Map.entry(int.class, INT),
+                Map.entry(Long.class, LONG), Map.entry(long.class, LONG),
+                Map.entry(Float.class, FLOAT), Map.entry(float.class, FLOAT),
+                Map.entry(Double.class, DOUBLE), Map.entry(double.class, DOUBLE),
+                Map.entry(String.class, STRING),
+                Map.entry(UUID.class, UUID_CODEC),
+                Map.entry(BigInteger.class, BIG_INTEGER),
+                Map.entry(BigDecimal.class, BIG_DECIMAL),
+                Map.entry(Instant.class, INSTANT),
+                Map.entry(Duration.class, DURATION),
+                Map.entry(byte[].class, BYTE_ARRAY),
+                Map.entry(boolean[].class, BOOLEAN_ARRAY),
+                Map.entry(short[].class, SHORT_ARRAY),
+                Map.entry(char[].class, CHAR_ARRAY),
+                Map.entry(int[].class, INT_ARRAY),
+                Map.entry(long[].class, LONG_ARRAY),
+                Map.entry(float[].class, FLOAT_ARRAY),
+                Map.entry(double[].class, DOUBLE_ARRAY),
+                Map.entry(IntList.class, PrimitiveCollections.INT_LIST),
+                Map.entry(LongList.class, PrimitiveCollections.LONG_LIST),
+                Map.entry(IntLongMap.class, PrimitiveCollections.INT_LONG_MAP)
+        ));
+    }
+
+    private static byte @NotNull [] secondsAndNanos(long seconds, int nanos) {
+        var bytes = new byte[Long.BYTES + Integer.BYTES];
+        Bytes.writeLong(bytes, 0, seconds);
+        Bytes.writeInt(bytes, Long.BYTES, nanos);
+        return bytes;
+    }
+
+    private StandardCodecs() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec;
+
+import dev.siroshun.serialization.core.Serialization;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A utility class to create length-bounded {@link Serialization}s for {@link String}s in UTF-8.
+ */
+public final class Utf8 {
+
+    /**
+     * Creates a {@link Serialization} for {@link String}s that uses UTF-8 and rejects strings longer than the given number of bytes.
+     * <p>
+     * Strings are encoded and decoded by the JDK as {@link StandardCodecs#STRING} does.
+     * Since a UTF-8 string never has fewer bytes than chars, strings that have more chars than the limit
+     * are rejected before encoding.
+     *
+     * @param maxBytes the maximum number of bytes of encoded strings
+     * @return a {@link Serialization} for {@link String}s that uses UTF-8
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public static @NotNull Serialization<String, byte[]> codec(int maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+        }
+
+        return Serialization.create(
+                value -> {
+                    checkMaximum(value.length(), maxBytes);
+                    var bytes = value.getBytes(StandardCharsets.UTF_8);
+                    checkMaximum(bytes.length, maxBytes);
+                    return bytes;
+                },
+                bytes -> {
+                    checkMaximum(bytes.length, maxBytes);
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+        );
+    }
+
+    private static void checkMaximum(int length, int maxBytes) {
+        if (maxBytes < length) {
+            throw new IllegalArgumentException("Expected at most " + maxBytes + " bytes, but got " + length + " bytes.");
+        }
+    }
+
+    private Utf8() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A growable list of {@code int}s that does not box its elements.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IntList {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * Creates a new empty {@link IntList}.
+     *
+     * @return a new empty {@link IntList}
+     */
+    public static @NotNull IntList create() {
+        return new IntList(EMPTY, 0);
+    }
+
+    /**
+     * Creates a new empty {@link IntList} with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity
+     * @return a new empty {@link IntList}
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public static @NotNull IntList create(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity cannot be negative: " + initialCapacity);
+        }
+        return new IntList(initialCapacity == 0 ? EMPTY : new int[initialCapacity], 0);
+    }
+
+    /**
+     * Creates a new {@link IntList} that contains the specified values.
+     * <p>
+     * The given array is copied.
+     *
+     * @param values the values
+     * @return a new {@link IntList} that contains the specified values
+     */
+    public static @NotNull IntList of(int @NotNull ... values) {
+        return new IntList(values.clone(), values.length);
+    }
+
+    /**
+     * Creates a new {@link IntList} that uses the specified array as its elements.
+     * <p>
+     * The given array is not copied, so it should not be modified after calling this method.
+     *
+     * @param values the values
+     * @return a new {@link IntList} that wraps the specified array
+     */
+    public static @NotNull IntList wrap(int @NotNull [] values) {
+        return new IntList(Objects.requireNonNull(values), values.length);
+    }
+
+    private int[] elements;
+    private int size;
+
+    private IntList(int @NotNull [] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Adds the value to the end of this list.
+     *
+     * @param value the value to add
+     */
+    public void add(int value) {
+        if (this.size == this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, Math.max(8, this.size + (this.size >> 1)));
+        }
+        this.elements[this.size++] = value;
+    }
+
+    /**
+     * Gets the value at the specified index.
+     *
+     * @param index the index
+     * @return the value at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, this.size);
+        return this.elements[index];
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     *
+     * @param index the index
+     * @param value the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, this.size);
+        int previous = this.elements[index];
+        this.elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the number of values in this list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if this list is empty.
+     *
+     * @return {@code true} if this list is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all values from this list.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Performs the action for each value in this list.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(@NotNull IntConsumer action) {
+        Objects.requireNonNull(action);
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.elements[i]);
+        }
+    }
+
+    /**
+     * Returns a new array that contains the values in this list.
+     *
+     * @return a new array that contains the values in this list
+     */
+    public int @NotNull [] toArray() {
+        return Arrays.copyOf(this.elements, this.size);
+    }
+
+    int @NotNull [] elements() {
+        return this.elements;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof IntList other && Arrays.equals(this.elements, 0, this.size, other.elements, 0, other.size));
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < this.size; i++) {
+            hash = 31 * hash + Integer.hashCode(this.elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "IntList" + Arrays.toString(this.toArray());
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An open-addressed hash map from {@code int} keys to {@code long} values that does not box its entries.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class IntLongMap {
+
+    private static final int FREE_KEY = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * Creates a new empty {@link IntLongMap}.
+     *
+     * @return a new empty {@link IntLongMap}
+     */
+    public static @NotNull IntLongMap create() {
+        return new IntLongMap(8);
+    }
+
+    /**
+     * Creates a new empty {@link IntLongMap} that can hold the specified number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     * @return a new empty {@link IntLongMap}
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public static @NotNull IntLongMap create(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative: " + expectedSize);
+        }
+        return new IntLongMap(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(8L, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+        if (1 << 30 < required) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // key 0 marks free slots, so its entry is stored separately
+    private int[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean hasFreeKey;
+    private long freeKeyValue;
+
+    private IntLongMap(int capacity) {
+        this.keys = new int[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Associates the value with the key.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(int key, long value) {
+        if (key == FREE_KEY) {
+            if (!this.hasFreeKey) {
+                this.hasFreeKey = true;
+                this.size++;
+            }
+            this.freeKeyValue = value;
+            return;
+        }
+
+        int index = this.indexOf(key);
+
+        if (index < 0) {
+            index = ~index;
+            this.keys[index] = key;
+            this.values[index] = value;
+            if (++this.size > (this.mask + 1) * LOAD_FACTOR) {
+                this.rehash((this.mask + 1) << 1);
+            }
+        } else {
+            this.values[index] = value;
+        }
+    }
+
+    /**
+     * Gets the value associated with the key, or returns the default value if the key is not present.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return if the key is not present
+     * @return the value associated with the key, or {@code defaultValue} if the key is not present
+     */
+    public long getOrDefault(int key, long defaultValue) {
+        if (key == FREE_KEY) {
+            return this.hasFreeKey ? this.freeKeyValue : defaultValue;
+        }
+
+        int index = this.indexOf(key);
+        return index < 0 ? defaultValue : this.values[index];
+    }
+
+    /**
+     * Checks if the key is present.
+     *
+     * @param key the key
+     * @return {@code true} if the key is present, otherwise {@code false}
+     */
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? this.hasFreeKey : 0 <= this.indexOf(key);
+    }
+
+    /**
+     * Removes the key and its value.
+     *
+     * @param key the key to remove
+     * @return {@code true} if the key was present, otherwise {@code false}
+     */
+    public boolean remove(int key) {
+        if (key == FREE_KEY) {
+            if (!this.hasFreeKey) {
+                return false;
+            }
+            this.hasFreeKey = false;
+            this.size--;
+            return true;
+        }
+
+        int index = this.indexOf(key);
+
+        if (index < 0) {
+            return false;
+        }
+
+        // backward-shift deletion keeps probe sequences intact without tombstones
+        int free = index;
+        int current = (index + 1) & this.mask;
+
+        while (this.keys[current] != FREE_KEY) {
+            int home = mix(this.keys[current]) & this.mask;
+            if (((current - home) & this.mask) >= ((current - free) & this.mask)) {
+                this.keys[free] = this.keys[current];
+                this.values[free] = this.values[current];
+                free = current;
+            }
+            current = (current + 1) & this.mask;
+        }
+
+        this.keys[free] = FREE_KEY;
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Returns the number of entries in this map.
+     *
+     * @return the number of entries in this map
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if this map is empty.
+     *
+     * @return {@code true} if this map is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all entries from this map.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, FREE_KEY);
+        this.hasFreeKey = false;
+        this.size = 0;
+    }
+
+    /**
+     * Performs the action for each entry in this map.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(@NotNull EntryConsumer action) {
+        Objects.requireNonNull(action);
+
+        if (this.hasFreeKey) {
+            action.accept(FREE_KEY, this.freeKeyValue);
+        }
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                action.accept(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
+    private int indexOf(int key) {
+        int index = mix(key) & this.mask;
+
+        while (true) {
+            int current = this.keys[index];
+            if (current == key) {
+                return index;
+            } else if (current == FREE_KEY) {
+                return ~index;
+            }
+            index = (index + 1) & this.mask;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        var oldKeys = this.keys;
+        var oldValues = this.values;
+
+        this.keys = new int[newCapacity];
+        this.values = new long[newCapacity];
+        this.mask = newCapacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int index = ~this.indexOf(oldKeys[i]);
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof IntLongMap other) || this.size != other.size || this.hasFreeKey != other.hasFreeKey) {
+            return false;
+        }
+
+        if (this.hasFreeKey && this.freeKeyValue != other.freeKeyValue) {
+            return false;
+        }
+
+        for (int i = 0; i < this.keys.length; i++) {
+            int key = this.keys[i];
+            if (key != FREE_KEY) {
+                int index = other.indexOf(key);
+                if (index < 0 || other.values[index] != this.values[i]) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hasFreeKey ? Long.hashCode(this.freeKeyValue) : 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                hash += this.keys[i] ^ Long.hashCode(this.values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("IntLongMap{");
+        this.forEach((key, value) -> {
+            if (builder.length() != 11) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * A consumer that accepts an {@code int} key and a {@code long} value.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Performs this operation on the given entry.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        void accept(int key, long value);
+
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec.collection;
+
+import dev.siroshun.serialization.codec.Bytes;
+import dev.siroshun.serialization.codec.StandardCodecs;
+import dev.siroshun.serialization.core.Serialization;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A class that provides codecs for primitive collections and maps primitive element types to the collection types.
+ * <p>
+ * {@link #collectionType(Class)} and {@link #mapType(Class, Class)} can be used to resolve the type to (de)serialize
+ * for {@code @CollectionType} and {@code @MapType} that specify primitive classes,
+ * so that the elements are not boxed on both the serialize and deserialize paths.
+ */
+public final class PrimitiveCollections {
+
+    private static final int ENTRY_BYTES = Integer.BYTES + Long.BYTES;
+
+    /**
+     * A {@link Serialization} for {@link IntList}s.
+     */
+    public static final Serialization<IntList, byte[]> INT_LIST = Serialization.create(
+            list -> {
+                var bytes = new byte[list.size() * Integer.BYTES];
+                ByteBuffer.wrap(bytes).asIntBuffer().put(list.elements(), 0, list.size());
+                return bytes;
+            },
+            bytes -> IntList.wrap(StandardCodecs.INT_ARRAY.deserializer().deserialize(bytes))
+    );
+
+    /**
+     * A {@link Serialization} for {@link LongList}s.
+     */
+    public static final Serialization<LongList, byte[]> LONG_LIST = Serialization.create(
+            list -> {
+                var bytes = new byte[list.size() * Long.BYTES];
+                ByteBuffer.wrap(bytes).asLongBuffer().put(list.elements(), 0, list.size());
+                return bytes;
+            },
+            bytes -> LongList.wrap(StandardCodecs.LONG_ARRAY.deserializer().deserialize(bytes))
+    );
+
+    /**
+     * A {@link Serialization} for {@link IntLongMap}s that writes each entry as an int key followed by a long value.
+     */
+    public static final Serialization<IntLongMap, byte[]> INT_LONG_MAP = Serialization.create(
+            map -> {
+                var bytes = new byte[map.size() * ENTRY_BYTES];
+                var offset = new int[1];
+                map.forEach((key, value) -> {
+                    Bytes.writeInt(bytes, offset[0], key);
+                    Bytes.writeLong(bytes, offset[0] + Integer.BYTES, value);
+                    offset[0] += ENTRY_BYTES;
+                });
+                return bytes;
+            },
+            bytes -> {
+                if (bytes.length % ENTRY_BYTES != 0) {
+                    throw new IllegalArgumentException("The length of bytes (" + bytes.length + ") is not a multiple of " + ENTRY_BYTES + ".");
+                }
+
+                var map = IntLongMap.create(bytes.length / ENTRY_BYTES);
+
+                for (int offset = 0; offset < bytes.length; offset += ENTRY_BYTES) {
+                    map.put(Bytes.readInt(bytes, offset), Bytes.readLong(bytes, offset + Integer.BYTES));
+                }
+
+                return map;
+            }
+    );
+
+    /**
+     * Gets the collection type to use for the specified element type.
+     * <p>
+     * {@code int} and {@code long} are mapped to {@link IntList} and {@link LongList},
+     * and other primitive types are mapped to their array types.
+     *
+     * @param elementType the element type
+     * @return the collection type for the element type, or {@code null} if the element type is not primitive
+     */
+    public static @Nullable Class<?> collectionType(@NotNull Class<?> elementType) {
+        Objects.requireNonNull(elementType);
+
+        if (!elementType.isPrimitive() || elementType == void.class) {
+            return null;
+        } else if (elementType == int.class) {
+            return IntList.class;
+        } else if (elementType == long.class) {
+            return LongList.class;
+        } else {
+            return elementType.arrayType();
+        }
+    }
+
+    /**
+     * Gets the map type to use for the specified key and value types.
+     *
+     * @param keyType   the key type
+     * @param valueType the value type
+     * @return the map type for the key and value types, or {@code null} if there is no primitive map for them
+     */
+    public static @Nullable Class<?> mapType(@NotNull Class<?> keyType, @NotNull Class<?> valueType) {
+        Objects.requireNonNull(keyType);
+        Objects.requireNonNull(valueType);
+        return keyType == int.class && valueType == long.class ? IntLongMap.class : null;
+    }
+
+    private PrimitiveCollections() {
+        throw new UnsupportedOperationException();
+    }
+}
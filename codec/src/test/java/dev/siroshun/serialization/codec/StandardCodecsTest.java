@@ -0,0 +1,112 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec;
+
+import dev.siroshun.serialization.core.Serialization;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+class StandardCodecsTest {
+
+    private static Stream<Arguments> values() {
+        return Stream.of(
+                Arguments.of(Boolean.class, true),
+                Arguments.of(Byte.class, (byte) -5),
+                Arguments.of(Short.class, (short) 0x1234),
+                Arguments.of(Character.class, 'あ'),
+                Arguments.of(Integer.class, 0xCAFEBABE),
+                Arguments.of(Long.class, Long.MIN_VALUE + 1),
+                Arguments.of(Float.class, 1.5f),
+                Arguments.of(Double.class, -Math.PI),
+                Arguments.of(String.class, "test-文字列"),
+                Arguments.of(UUID.class, UUID.randomUUID()),
+                Arguments.of(BigInteger.class, new BigInteger("-123456789012345678901234567890")),
+                Arguments.of(BigDecimal.class, new BigDecimal("-12345.678900")),
+                Arguments.of(Instant.class, Instant.ofEpochSecond(1_700_000_000L, 123_456_789)),
+                Arguments.of(Duration.class, Duration.ofSeconds(-10, 5))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    <T> void testRoundTrip(Class<T> clazz, T value) {
+        var serialization = StandardCodecs.registry().get(clazz);
+        Assertions.assertNotNull(serialization);
+        Assertions.assertEquals(value, roundTrip(serialization, value));
+    }
+
+    @Test
+    void testBigEndian() {
+        Assertions.assertArrayEquals(new byte[]{0x12, 0x34, 0x56, 0x78}, StandardCodecs.INT.serializer().serialize(0x12345678));
+
+        var uuid = new UUID(1, 2);
+        var bytes = StandardCodecs.UUID_CODEC.serializer().serialize(uuid);
+        Assertions.assertEquals(16, bytes.length);
+        Assertions.assertEquals(1, bytes[7]);
+        Assertions.assertEquals(2, bytes[15]);
+    }
+
+    @Test
+    void testPrimitiveClasses() {
+        Assertions.assertSame(StandardCodecs.INT, StandardCodecs.registry().get(int.class));
+        Assertions.assertSame(StandardCodecs.DOUBLE, StandardCodecs.registry().get(double.class));
+    }
+
+    @Test
+    void testArrays() {
+        var bytes = new byte[]{1, 2, 3};
+        var copied = roundTrip(StandardCodecs.BYTE_ARRAY, bytes);
+        Assertions.assertArrayEquals(bytes, copied);
+        Assertions.assertNotSame(bytes, copied);
+
+        Assertions.assertArrayEquals(new boolean[]{true, false, true}, roundTrip(StandardCodecs.BOOLEAN_ARRAY, new boolean[]{true, false, true}));
+        Assertions.assertArrayEquals(new short[]{1, -2, 3}, roundTrip(StandardCodecs.SHORT_ARRAY, new short[]{1, -2, 3}));
+        Assertions.assertArrayEquals(new char[]{'a', 'b'}, roundTrip(StandardCodecs.CHAR_ARRAY, new char[]{'a', 'b'}));
+        Assertions.assertArrayEquals(new int[]{1, Integer.MIN_VALUE, Integer.MAX_VALUE}, roundTrip(StandardCodecs.INT_ARRAY, new int[]{1, Integer.MIN_VALUE, Integer.MAX_VALUE}));
+        Assertions.assertArrayEquals(new long[]{1, Long.MIN_VALUE}, roundTrip(StandardCodecs.LONG_ARRAY, new long[]{1, Long.MIN_VALUE}));
+        Assertions.assertArrayEquals(new float[]{1.5f, Float.NaN}, roundTrip(StandardCodecs.FLOAT_ARRAY, new float[]{1.5f, Float.NaN}));
+        Assertions.assertArrayEquals(new double[]{-0.0, Double.MAX_VALUE}, roundTrip(StandardCodecs.DOUBLE_ARRAY, new double[]{-0.0, Double.MAX_VALUE}));
+        Assertions.assertArrayEquals(new int[0], roundTrip(StandardCodecs.INT_ARRAY, new int[0]));
+    }
+
+    @Test
+    void testInvalidLength() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StandardCodecs.INT.deserializer().deserialize(new byte[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StandardCodecs.UUID_CODEC.deserializer().deserialize(new byte[15]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> StandardCodecs.LONG_ARRAY.deserializer().deserialize(new byte[9]));
+    }
+
+    @Test
+    void testFrozen() {
+        Assertions.assertTrue(StandardCodecs.registry().isFrozen());
+        Assertions.assertThrows(IllegalStateException.class, () -> StandardCodecs.registry().register(Integer.class, StandardCodecs.INT));
+    }
+
+    private static <T> T roundTrip(Serialization<T, byte[]> serialization, T value) {
+        return serialization.deserializer().deserialize(serialization.serializer().serialize(value));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+class Utf8Test {
+
+    private static Stream<String> strings() {
+        return Stream.of(
+                "",
+                "ascii only",
+                "café",
+                "日本語のテキスト",
+                "emoji 😀 and 🎉",
+                "unpaired \uD800 high",
+                "unpaired \uDC00 low",
+                "trailing high \uD83D",
+                "\u007F\u0080߿ࠀ￿"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("strings")
+    void testSameAsJdk(String value) {
+        var expected = value.getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertArrayEquals(expected, Utf8.codec(expected.length).serializer().serialize(value));
+        Assertions.assertEquals(new String(expected, StandardCharsets.UTF_8), Utf8.codec(expected.length).deserializer().deserialize(expected));
+    }
+
+    @Test
+    void testMaxBytes() {
+        var codec = Utf8.codec(4);
+
+        Assertions.assertArrayEquals(new byte[]{'t', 'e', 's', 't'}, codec.serializer().serialize("test"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.serializer().serialize("tests"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.serializer().serialize("日本"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.deserializer().deserialize(new byte[5]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Utf8.codec(-1));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+class IntLongMapTest {
+
+    @Test
+    void testPutAndGet() {
+        var map = IntLongMap.create();
+
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertEquals(-1L, map.getOrDefault(1, -1L));
+
+        map.put(1, 10L);
+        map.put(0, 20L);
+        map.put(-5, 30L);
+        map.put(1, 40L);
+
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertEquals(40L, map.getOrDefault(1, -1L));
+        Assertions.assertEquals(20L, map.getOrDefault(0, -1L));
+        Assertions.assertEquals(30L, map.getOrDefault(-5, -1L));
+        Assertions.assertTrue(map.containsKey(0));
+        Assertions.assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    void testRandomOperations() {
+        var random = new Random(39);
+        var map = IntLongMap.create();
+        var expected = new HashMap<Integer, Long>();
+
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt(512) - 256;
+
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                long value = random.nextLong();
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), map.size());
+
+        for (var entry : expected.entrySet()) {
+            Assertions.assertEquals(entry.getValue(), map.getOrDefault(entry.getKey(), 0L));
+        }
+
+        var actual = new HashMap<Integer, Long>();
+        map.forEach(actual::put);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void testEquals() {
+        var first = IntLongMap.create();
+        var second = IntLongMap.create(100);
+
+        for (int i = 0; i < 50; i++) {
+            first.put(i, i * 2L);
+            second.put(49 - i, (49 - i) * 2L);
+        }
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+
+        second.put(0, 1L);
+        Assertions.assertNotEquals(first, second);
+
+        first.clear();
+        Assertions.assertEquals(Map.of(), toMap(first));
+    }
+
+    private static Map<Integer, Long> toMap(IntLongMap map) {
+        var result = new HashMap<Integer, Long>();
+        map.forEach(result::put);
+        return result;
+    }
+}
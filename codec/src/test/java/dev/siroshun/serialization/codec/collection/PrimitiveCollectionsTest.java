@@ -0,0 +1,75 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.codec.collection;
+
+import dev.siroshun.serialization.codec.StandardCodecs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveCollectionsTest {
+
+    @Test
+    void testIntList() {
+        var list = IntList.create();
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+
+        Assertions.assertEquals(100, list.size());
+        Assertions.assertEquals(297, list.get(99));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+
+        var serialization = StandardCodecs.registry().get(IntList.class);
+        Assertions.assertNotNull(serialization);
+        Assertions.assertEquals(list, serialization.deserializer().deserialize(serialization.serializer().serialize(list)));
+    }
+
+    @Test
+    void testLongList() {
+        var list = LongList.of(Long.MIN_VALUE, 0L, Long.MAX_VALUE);
+        var bytes = PrimitiveCollections.LONG_LIST.serializer().serialize(list);
+
+        Assertions.assertEquals(3 * Long.BYTES, bytes.length);
+        Assertions.assertEquals(list, PrimitiveCollections.LONG_LIST.deserializer().deserialize(bytes));
+    }
+
+    @Test
+    void testIntLongMap() {
+        var map = IntLongMap.create();
+        map.put(0, 1L);
+        map.put(Integer.MIN_VALUE, Long.MAX_VALUE);
+        map.put(42, -42L);
+
+        var bytes = PrimitiveCollections.INT_LONG_MAP.serializer().serialize(map);
+
+        Assertions.assertEquals(3 * (Integer.BYTES + Long.BYTES), bytes.length);
+        Assertions.assertEquals(map, PrimitiveCollections.INT_LONG_MAP.deserializer().deserialize(bytes));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PrimitiveCollections.INT_LONG_MAP.deserializer().deserialize(new byte[11]));
+    }
+
+    @Test
+    void testTypeMapping() {
+        Assertions.assertSame(IntList.class, PrimitiveCollections.collectionType(int.class));
+        Assertions.assertSame(LongList.class, PrimitiveCollections.collectionType(long.class));
+        Assertions.assertSame(double[].class, PrimitiveCollections.collectionType(double.class));
+        Assertions.assertNull(PrimitiveCollections.collectionType(Integer.class));
+
+        Assertions.assertSame(IntLongMap.class, PrimitiveCollections.mapType(int.class, long.class));
+        Assertions.assertNull(PrimitiveCollections.mapType(int.class, int.class));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+final class CachingSerializer<I, O> implements Serializer<I, O> {
+
+    private static final Object NULL = new Object();
+
+    // Each segment is an LRU cache guarded by its own lock, so callers only contend when their inputs fall into the same segment.
+    // Small caches keep a single segment so that their eviction order is exactly LRU.
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    static <I, O> @NotNull CachingSerializer<I, O> lru(@NotNull Serializer<? super I, ? extends O> serializer, int maximumSize, boolean identity) {
+        return new CachingSerializer<>(serializer, maximumSize, identity ? KeyType.IDENTITY : KeyType.EQUALITY);
+    }
+
+    static <I, O> @NotNull CachingSerializer<I, O> weak(@NotNull Serializer<? super I, ? extends O> serializer, int maximumSize) {
+        return new CachingSerializer<>(serializer, maximumSize, KeyType.WEAK);
+    }
+
+    private final Serializer<? super I, ? extends O> serializer;
+    private final KeyType keyType;
+    private final Segment[] segments;
+    private final int shift;
+
+    private CachingSerializer(@NotNull Serializer<? super I, ? extends O> serializer, int maximumSize, @NotNull KeyType keyType) {
+        this.serializer = serializer;
+        this.keyType = keyType;
+
+        int count = Math.min(MAX_SEGMENTS, Math.max(1, Integer.highestOneBit(maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(count);
+
+        for (int i = 0; i < count; i++) {
+            // distributes the remainder so that the total size is exactly maximumSize
+            int size = maximumSize / count + (i < maximumSize % count ? 1 : 0);
+            this.segments[i] = new Segment(size, keyType == KeyType.WEAK);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public O serialize(@NotNull I input) {
+        int hash = this.keyType == KeyType.IDENTITY ? System.identityHashCode(input) : input.hashCode();
+        var segment = this.segment(hash);
+
+        var cached = segment.get(switch (this.keyType) {
+            case EQUALITY -> input;
+            case IDENTITY -> new IdentityKey(input);
+            case WEAK -> new WeakLookup(input, hash);
+        });
+
+        if (cached != null) {
+            return cached != NULL ? (O) cached : null;
+        }
+
+        // Serialize outside the lock; if another thread serializes the same input at the same time, the later result is cached.
+        var result = this.serializer.serialize(input);
+
+        segment.put(switch (this.keyType) {
+            case EQUALITY -> input;
+            case IDENTITY -> new IdentityKey(input);
+            case WEAK -> new WeakKey(input, hash, segment.queue);
+        }, result != null ? result : NULL);
+
+        return result;
+    }
+
+    private @NotNull Segment segment(int hash) {
+        // uses the high bits of the mixed hash, since the low bits select the buckets in the segment
+        return this.shift == Integer.SIZE ? this.segments[0] : this.segments[(hash * 0x9E3779B9) >>> this.shift];
+    }
+
+    private enum KeyType {
+        EQUALITY,
+        IDENTITY,
+        WEAK
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<Object, Object> map;
+        private final @Nullable ReferenceQueue<Object> queue;
+
+        private Segment(int maximumSize, boolean weak) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                    return maximumSize < this.size();
+                }
+            };
+            this.queue = weak ? new ReferenceQueue<>() : null;
+        }
+
+        private synchronized @Nullable Object get(@NotNull Object key) {
+            this.expunge();
+            return this.map.get(key);
+        }
+
+        private synchronized void put(@NotNull Object key, @NotNull Object value) {
+            this.expunge();
+            this.map.put(key, value);
+        }
+
+        private void expunge() {
+            if (this.queue == null) {
+                return;
+            }
+
+            Reference<?> reference;
+
+            while ((reference = this.queue.poll()) != null) {
+                this.map.remove(reference);
+            }
+        }
+    }
+
+    private record IdentityKey(@NotNull Object object) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey other && this.object == other.object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.object);
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        private WeakKey(@NotNull Object referent, int hash, @Nullable ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            // cleared keys are only equal to themselves, so that they can be removed after being enqueued
+            var referent = this.get();
+            return referent != null && obj instanceof WeakKey other && referent.equals(other.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    // a lookup key that does not allocate a WeakReference; HashMap calls equals on the lookup key
+    private record WeakLookup(@NotNull Object object, int hash) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof WeakKey key && Objects.equals(this.object, key.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -31,6 +31,35 @@ import java.util.function.Function;
 @FunctionalInterface
 public interface Deserializer<I, O> extends Function<I, O> {
 
+    /**
+     * Creates a {@link Deserializer} that interns the results of the given {@link Deserializer}.
+     * <p>
+     * When the result is equal to the one that is previously returned, the returning {@link Deserializer} returns the previous instance,
+     * so the duplicated results can be garbage collected immediately.
+     * This is useful for immutable values that appear many times, such as short strings and small value objects.
+     * <p>
+     * The interned instances are weakly referenced, and removed after they are garbage collected.
+     * When the number of interned instances reaches {@code maximumSize}, new results are returned without interning.
+     * <p>
+     * The results must be immutable. The returning {@link Deserializer} is thread-safe.
+     *
+     * @param deserializer the {@link Deserializer} to intern the results
+     * @param maximumSize  the maximum number of interned instances
+     * @param <I>          the type of input
+     * @param <O>          the type of output
+     * @return a {@link Deserializer} that interns the results
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+     */
+    static <I, O> @NotNull Deserializer<I, O> interning(@NotNull Deserializer<? super I, ? extends O> deserializer, int maximumSize) {
+        Objects.requireNonNull(deserializer);
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        return new InterningDeserializer<>(deserializer, maximumSize);
+    }
+
     /**
      * Deserializes the object.
      *
@@ -0,0 +1,183 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A utility class to create {@link Serialization}s for enums.
+ * <p>
+ * The lookup tables of names and ordinals for each enum class are computed once and shared by all {@link Serialization}s of the enum class.
+ * The lookup tables of generated keys are computed when creating {@link Serialization}s by {@link #byKey(Class, KeyGenerator, Enum)}.
+ * The {@link Deserializer}s of the returning {@link Serialization}s do not throw exceptions for unknown inputs,
+ * and return the specified default value instead.
+ */
+public final class EnumSerialization {
+
+    private static final ClassValue<EnumTable<?>> TABLES = new ClassValue<>() {
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        @Override
+        protected EnumTable<?> computeValue(@NotNull Class<?> type) {
+            return new EnumTable(type);
+        }
+    };
+
+    /**
+     * Creates a {@link Serialization} that serializes enum constants to their names.
+     * <p>
+     * When deserializing, names are matched exactly first, and then matched ignoring case.
+     *
+     * @param enumClass    the enum class
+     * @param defaultValue the value to return when the name does not match any constants
+     * @param <E>          the type of the enum
+     * @return a {@link Serialization} that serializes enum constants to their names
+     */
+    public static <E extends Enum<E>> @NotNull Serialization<E, String> byName(@NotNull Class<E> enumClass, @Nullable E defaultValue) {
+        var table = table(enumClass);
+        return Serialization.create(Enum::name, name -> table.byName(name, defaultValue));
+    }
+
+    /**
+     * Creates a {@link Serialization} that serializes enum constants to the keys generated from their names.
+     * <p>
+     * When deserializing, the generated keys are matched first, and then the names are matched.
+     * Both of them are matched exactly first, and then matched ignoring case.
+     *
+     * @param enumClass    the enum class
+     * @param keyGenerator the {@link KeyGenerator} to generate keys from the names
+     * @param defaultValue the value to return when the key does not match any constants
+     * @param <E>          the type of the enum
+     * @return a {@link Serialization} that serializes enum constants to the generated keys
+     */
+    public static <E extends Enum<E>> @NotNull Serialization<E, String> byKey(@NotNull Class<E> enumClass, @NotNull KeyGenerator keyGenerator, @Nullable E defaultValue) {
+        Objects.requireNonNull(keyGenerator);
+        var table = table(enumClass);
+        var keyTable = new KeyTable<>(table.constants, keyGenerator);
+        return Serialization.create(keyTable::key, key -> {
+            var constant = keyTable.byKey(key);
+            return constant != null ? constant : table.byName(key, defaultValue);
+        });
+    }
+
+    /**
+     * Creates a {@link Serialization} that serializes enum constants to their ordinals.
+     *
+     * @param enumClass    the enum class
+     * @param defaultValue the value to return when the ordinal is out of range
+     * @param <E>          the type of the enum
+     * @return a {@link Serialization} that serializes enum constants to their ordinals
+     */
+    public static <E extends Enum<E>> @NotNull Serialization<E, Integer> byOrdinal(@NotNull Class<E> enumClass, @Nullable E defaultValue) {
+        var table = table(enumClass);
+        return Serialization.create(Enum::ordinal, ordinal -> table.byOrdinal(ordinal, defaultValue));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> @NotNull EnumTable<E> table(@NotNull Class<E> enumClass) {
+        Objects.requireNonNull(enumClass);
+
+        if (!enumClass.isEnum()) {
+            throw new IllegalArgumentException(enumClass.getName() + " is not an enum class.");
+        }
+
+        return (EnumTable<E>) TABLES.get(enumClass);
+    }
+
+    private static @NotNull String lowercase(@NotNull String str) {
+        return str.toLowerCase(Locale.ROOT);
+    }
+
+    private EnumSerialization() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final class EnumTable<E extends Enum<E>> {
+
+        private final E[] constants;
+        private final Map<String, E> byName;
+        private final Map<String, E> byLowercaseName;
+
+        private EnumTable(@NotNull Class<E> enumClass) {
+            this.constants = enumClass.getEnumConstants();
+
+            var byName = new HashMap<String, E>(this.constants.length * 2);
+            var byLowercaseName = new HashMap<String, E>(this.constants.length * 2);
+
+            for (var constant : this.constants) {
+                byName.put(constant.name(), constant);
+                byLowercaseName.putIfAbsent(lowercase(constant.name()), constant);
+            }
+
+            this.byName = Map.copyOf(byName);
+            this.byLowercaseName = Map.copyOf(byLowercaseName);
+        }
+
+        private E byName(@NotNull String name, E defaultValue) {
+            var constant = this.byName.get(name);
+
+            if (constant == null) {
+                constant = this.byLowercaseName.get(lowercase(name));
+            }
+
+            return constant != null ? constant : defaultValue;
+        }
+
+        private E byOrdinal(int ordinal, E defaultValue) {
+            return 0 <= ordinal && ordinal < this.constants.length ? this.constants[ordinal] : defaultValue;
+        }
+    }
+
+    private static final class KeyTable<E extends Enum<E>> {
+
+        private final String[] keys;
+        private final Map<String, E> byKey;
+        private final Map<String, E> byLowercaseKey;
+
+        private KeyTable(@NotNull E[] constants, @NotNull KeyGenerator keyGenerator) {
+            this.keys = new String[constants.length];
+
+            var byKey = new HashMap<String, E>(constants.length * 2);
+            var byLowercaseKey = new HashMap<String, E>(constants.length * 2);
+
+            for (var constant : constants) {
+                var key = keyGenerator.generate(constant.name());
+                this.keys[constant.ordinal()] = key;
+                byKey.putIfAbsent(key, constant);
+                byLowercaseKey.putIfAbsent(lowercase(key), constant);
+            }
+
+            this.byKey = Map.copyOf(byKey);
+            this.byLowercaseKey = Map.copyOf(byLowercaseKey);
+        }
+
+        private @NotNull String key(@NotNull E constant) {
+            return this.keys[constant.ordinal()];
+        }
+
+        private @Nullable E byKey(@NotNull String key) {
+            var constant = this.byKey.get(key);
+            return constant != null ? constant : this.byLowercaseKey.get(lowercase(key));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class InterningDeserializer<I, O> implements Deserializer<I, O> {
+
+    private final Deserializer<? super I, ? extends O> deserializer;
+    private final int maximumSize;
+    private final ConcurrentHashMap<Object, WeakKey<O>> table = new ConcurrentHashMap<>();
+    private final ReferenceQueue<O> queue = new ReferenceQueue<>();
+
+    InterningDeserializer(@NotNull Deserializer<? super I, ? extends O> deserializer, int maximumSize) {
+        this.deserializer = deserializer;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public O deserialize(@NotNull I input) {
+        O result = this.deserializer.deserialize(input);
+        return result != null ? this.intern(result) : null;
+    }
+
+    private @NotNull O intern(@NotNull O value) {
+        var existing = this.table.get(new Lookup(value));
+
+        if (existing != null) {
+            var interned = existing.get();
+
+            if (interned != null) {
+                return interned;
+            }
+        }
+
+        this.expungeStaleEntries();
+
+        if (this.maximumSize <= this.table.size()) {
+            // The table is full; the value is returned as-is instead of evicting others.
+            return value;
+        }
+
+        var key = new WeakKey<>(value, this.queue);
+
+        while (true) {
+            var previous = this.table.putIfAbsent(key, key);
+
+            if (previous == null) {
+                return value;
+            }
+
+            var interned = previous.get();
+
+            if (interned != null) {
+                return interned;
+            }
+
+            // The previous value has been collected, but not expunged yet.
+            this.table.remove(previous, previous);
+        }
+    }
+
+    private void expungeStaleEntries() {
+        Object ref;
+
+        while ((ref = this.queue.poll()) != null) {
+            this.table.remove(ref, ref);
+        }
+    }
+
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        private WeakKey(@NotNull T referent, @NotNull ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+            this.hash = referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (obj instanceof WeakKey<?> other) {
+                var value = this.get();
+                return value != null && value.equals(other.get());
+            }
+
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    // A strong key to look up WeakKeys without creating a WeakReference.
+    private record Lookup(@NotNull Object value) {
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof WeakKey<?> key && Objects.equals(this.value, key.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import dev.siroshun.serialization.core.pool.ObjectPool;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+import java.util.Objects;
+
+/**
+ * A {@link Deserializer} that can deserialize objects into existing instances.
+ * <p>
+ * This is useful to deserialize mutable objects in tight loops without allocating a new instance per input.
+ *
+ * @param <I> the type of input
+ * @param <O> the type of output
+ */
+@FunctionalInterface
+public interface ReusingDeserializer<I, O> extends Deserializer<I, O> {
+
+    /**
+     * Deserializes the object into the given instance.
+     * <p>
+     * If {@code reuse} is {@code null}, this method creates a new instance.
+     * Otherwise, this method overwrites the state of {@code reuse}, and usually returns it.
+     *
+     * @param input the object to deserialize
+     * @param reuse the instance to reuse, or {@code null} to create a new instance
+     * @return the deserialized result
+     */
+    @UnknownNullability
+    O deserializeInto(@NotNull I input, @Nullable O reuse);
+
+    /**
+     * Deserializes the object to a new instance.
+     *
+     * @param input the object to deserialize
+     * @return the deserialized result
+     * @see #deserializeInto(Object, Object)
+     */
+    @Override
+    default O deserialize(@NotNull I input) {
+        return this.deserializeInto(input, null);
+    }
+
+    /**
+     * Creates a {@link Deserializer} that deserializes objects into instances acquired from the {@link ObjectPool}.
+     * <p>
+     * The results are not returned to the {@link ObjectPool} automatically.
+     * Callers should call {@link ObjectPool#release(Object)} after using them.
+     *
+     * @param pool the {@link ObjectPool} to acquire instances
+     * @return a {@link Deserializer} that deserializes objects into pooled instances
+     */
+    default @NotNull Deserializer<I, O> pooled(@NotNull ObjectPool<O> pool) {
+        Objects.requireNonNull(pool);
+        return input -> this.deserializeInto(input, pool.acquire());
+    }
+}
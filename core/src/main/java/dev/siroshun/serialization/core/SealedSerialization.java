@@ -0,0 +1,391 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A utility class to create {@link Serialization}s for sealed types.
+ * <p>
+ * The concrete subtypes are collected from {@link Class#getPermittedSubclasses()}, descending into permitted subtypes
+ * that are sealed themselves, and numbered in that order. The subtype tables for each sealed type are computed once
+ * and shared by all {@link Serialization}s of the sealed type, and the {@link Serialization} of each subtype is
+ * resolved when the returning {@link Serialization} is created, so that serializing and deserializing values only
+ * index into arrays.
+ * <p>
+ * Since the numbers follow the order of the {@code permits} clauses (or the declaration order if omitted),
+ * new subtypes should be appended to keep the serialized results compatible.
+ * <p>
+ * The {@link Serializer}s of the returning {@link Serialization}s throw {@link SerializationException}
+ * if the {@link Serializer} of the value's subtype returns {@code null}.
+ */
+public final class SealedSerialization {
+
+    private static final ClassValue<SubtypeTable> TABLES = new ClassValue<>() {
+        @Override
+        protected SubtypeTable computeValue(@NotNull Class<?> type) {
+            return new SubtypeTable(type);
+        }
+    };
+
+    /**
+     * Gets the subtypes of the sealed type in the order used by the {@link Serialization}s of this class.
+     *
+     * @param sealedType the sealed type
+     * @param <T>        the sealed type
+     * @return the subtypes of the sealed type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull List<Class<? extends T>> subtypes(@NotNull Class<T> sealedType) {
+        return (List<Class<? extends T>>) (List<?>) List.of(table(sealedType).subtypes);
+    }
+
+    /**
+     * Creates a {@link Serialization} that serializes values of the sealed type to byte arrays that start with
+     * a one-byte discriminator, followed by the result of the {@link Serialization} of the value's subtype.
+     * <p>
+     * Since the {@link Serialization}s of the subtypes work on whole byte arrays,
+     * the body is copied once on both serializing and deserializing.
+     * {@link #byIndexInPlace(Class, Function)} avoids the copies by using {@link BodyCodec}s.
+     *
+     * @param sealedType the sealed type that has up to 256 subtypes
+     * @param resolver   the function to get the {@link Serialization} of each subtype
+     * @param <T>        the sealed type
+     * @return a {@link Serialization} that serializes values of the sealed type to tagged byte arrays
+     * @throws IllegalArgumentException if the sealed type has more than 256 subtypes,
+     *                                  or the resolver returns {@code null} or a {@link Serialization} without
+     *                                  {@link Serializer} or {@link Deserializer}
+     */
+    public static <T> @NotNull Serialization<T, byte[]> byIndex(@NotNull Class<T> sealedType,
+                                                                @NotNull Function<? super Class<? extends T>, ? extends Serialization<?, byte[]>> resolver) {
+        var table = indexTable(sealedType);
+        var serializations = resolve(table, resolver);
+
+        return Serialization.create(
+                value -> {
+                    int index = table.indexOf(value);
+                    var body = checkSerialized(serializations[index].serializer().serialize(value), table, index);
+                    var result = new byte[body.length + 1];
+                    result[0] = (byte) index;
+                    System.arraycopy(body, 0, result, 1, body.length);
+                    return result;
+                },
+                input -> {
+                    int index = discriminator(input, serializations.length);
+                    return sealedType.cast(serializations[index].deserializer().deserialize(Arrays.copyOfRange(input, 1, input.length)));
+                }
+        );
+    }
+
+    /**
+     * Creates a {@link Serialization} that serializes values of the sealed type to byte arrays that start with
+     * a one-byte discriminator, followed by the body written by the {@link BodyCodec} of the value's subtype.
+     * <p>
+     * The results are the same as {@link #byIndex(Class, Function)} if the {@link BodyCodec}s write the same bytes,
+     * but the bodies are written into and read from the tagged arrays directly without copying.
+     *
+     * @param sealedType the sealed type that has up to 256 subtypes
+     * @param resolver   the function to get the {@link BodyCodec} of each subtype
+     * @param <T>        the sealed type
+     * @return a {@link Serialization} that serializes values of the sealed type to tagged byte arrays
+     * @throws IllegalArgumentException if the sealed type has more than 256 subtypes, or the resolver returns {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @NotNull Serialization<T, byte[]> byIndexInPlace(@NotNull Class<T> sealedType,
+                                                                       @NotNull Function<? super Class<? extends T>, ? extends BodyCodec<?>> resolver) {
+        var table = indexTable(sealedType);
+        Objects.requireNonNull(resolver);
+
+        var codecs = new BodyCodec[table.subtypes.length];
+
+        for (int i = 0; i < codecs.length; i++) {
+            var subtype = (Class<? extends T>) table.subtypes[i];
+            codecs[i] = resolver.apply(subtype);
+
+            if (codecs[i] == null) {
+                throw new IllegalArgumentException("No body codec for " + subtype.getName());
+            }
+        }
+
+        return Serialization.create(
+                value -> {
+                    int index = table.indexOf(value);
+                    var codec = (BodyCodec<Object>) codecs[index];
+                    var result = new byte[codec.length(value) + 1];
+                    result[0] = (byte) index;
+                    codec.write(value, result, 1);
+                    return result;
+                },
+                input -> {
+                    int index = discriminator(input, codecs.length);
+                    return sealedType.cast(codecs[index].read(input, 1, input.length - 1));
+                }
+        );
+    }
+
+    /**
+     * Creates a {@link Serialization} that serializes values of the sealed type to entries whose keys are
+     * generated from the simple names of the value's subtype, and whose values are the results of
+     * the {@link Serialization} of the subtype.
+     *
+     * @param sealedType   the sealed type
+     * @param keyGenerator the {@link KeyGenerator} to generate keys from the simple names of the subtypes
+     * @param resolver     the function to get the {@link Serialization} of each subtype
+     * @param <T>          the sealed type
+     * @param <S>          the type of serialized results of the subtypes
+     * @return a {@link Serialization} that serializes values of the sealed type to keyed entries
+     * @throws IllegalArgumentException if the {@link KeyGenerator} generates the same key for different subtypes,
+     *                                  or the resolver returns {@code null} or a {@link Serialization} without
+     *                                  {@link Serializer} or {@link Deserializer}
+     */
+    public static <T, S> @NotNull Serialization<T, Map.Entry<String, S>> byKey(@NotNull Class<T> sealedType, @NotNull KeyGenerator keyGenerator,
+                                                                             @NotNull Function<? super Class<? extends T>, ? extends Serialization<?, S>> resolver) {
+        Objects.requireNonNull(keyGenerator);
+        var table = table(sealedType);
+        var keyTable = new KeyTable(table.subtypes, keyGenerator);
+        var serializations = resolve(table, resolver);
+
+        var byKey = new HashMap<String, Serialization<Object, S>>(serializations.length * 2);
+
+        for (int i = 0; i < serializations.length; i++) {
+            byKey.put(keyTable.keys[i], serializations[i]);
+        }
+
+        var deserializers = Map.copyOf(byKey);
+
+        return Serialization.create(
+                value -> {
+                    int index = table.indexOf(value);
+                    return Map.entry(keyTable.keys[index], checkSerialized(serializations[index].serializer().serialize(value), table, index));
+                },
+                input -> {
+                    var serialization = deserializers.get(input.getKey());
+
+                    if (serialization == null) {
+                        throw new SerializationException("Unknown discriminator: " + input.getKey());
+                    }
+
+                    return sealedType.cast(serialization.deserializer().deserialize(input.getValue()));
+                }
+        );
+    }
+
+    private static @NotNull SubtypeTable indexTable(@NotNull Class<?> sealedType) {
+        var table = table(sealedType);
+
+        if (table.subtypes.length > 256) {
+            throw new IllegalArgumentException(sealedType.getName() + " has more than 256 subtypes.");
+        }
+
+        return table;
+    }
+
+    private static <S> @NotNull S checkSerialized(@Nullable S serialized, @NotNull SubtypeTable table, int index) {
+        if (serialized == null) {
+            throw new SerializationException("The serializer of " + table.subtypes[index].getName() + " returned null.");
+        }
+
+        return serialized;
+    }
+
+    private static int discriminator(byte @NotNull [] input, int subtypes) {
+        if (input.length == 0) {
+            throw new SerializationException("Missing discriminator.");
+        }
+
+        int index = Byte.toUnsignedInt(input[0]);
+
+        if (subtypes <= index) {
+            throw new SerializationException("Unknown discriminator: " + index);
+        }
+
+        return index;
+    }
+
+    private static @NotNull SubtypeTable table(@NotNull Class<?> sealedType) {
+        Objects.requireNonNull(sealedType);
+
+        if (!sealedType.isSealed()) {
+            throw new IllegalArgumentException(sealedType.getName() + " is not a sealed type.");
+        }
+
+        return TABLES.get(sealedType);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T, S> @NotNull Serialization<Object, S> @NotNull [] resolve(@NotNull SubtypeTable table,
+                                                                             @NotNull Function<? super Class<? extends T>, ? extends Serialization<?, S>> resolver) {
+        Objects.requireNonNull(resolver);
+
+        var serializations = new Serialization[table.subtypes.length];
+
+        for (int i = 0; i < serializations.length; i++) {
+            var subtype = (Class<? extends T>) table.subtypes[i];
+            var serialization = resolver.apply(subtype);
+
+            if (serialization == null) {
+                throw new IllegalArgumentException("No serialization for " + subtype.getName());
+            }
+
+            if (!serialization.hasSerializer() || !serialization.hasDeserializer()) {
+                throw new IllegalArgumentException("The serialization for " + subtype.getName() + " must have both serializer and deserializer.");
+            }
+
+            serializations[i] = serialization;
+        }
+
+        return serializations;
+    }
+
+    private SealedSerialization() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final class SubtypeTable {
+
+        private final Class<?>[] subtypes;
+        private final ClassValue<Integer> indices = new ClassValue<>() {
+            @Override
+            protected Integer computeValue(@NotNull Class<?> type) {
+                return SubtypeTable.this.computeIndex(type);
+            }
+        };
+
+        private SubtypeTable(@NotNull Class<?> sealedType) {
+            var subtypes = new ArrayList<Class<?>>();
+            collect(sealedType, subtypes);
+            this.subtypes = subtypes.toArray(Class<?>[]::new);
+        }
+
+        private static void collect(@NotNull Class<?> type, @NotNull List<Class<?>> subtypes) {
+            if (!type.isSealed()) {
+                if (!subtypes.contains(type)) {
+                    subtypes.add(type);
+                }
+                return;
+            }
+
+            // a sealed class can be instantiated itself unless it is abstract
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers()) && !subtypes.contains(type)) {
+                subtypes.add(type);
+            }
+
+            for (var permitted : type.getPermittedSubclasses()) {
+                collect(permitted, subtypes);
+            }
+        }
+
+        private int indexOf(@NotNull Object value) {
+            int index = this.indices.get(value.getClass());
+
+            if (index < 0) {
+                throw new SerializationException("Unknown subtype: " + value.getClass().getName());
+            }
+
+            return index;
+        }
+
+        private int computeIndex(@NotNull Class<?> type) {
+            for (int i = 0; i < this.subtypes.length; i++) {
+                if (this.subtypes[i] == type) {
+                    return i;
+                }
+            }
+
+            // subclasses of non-sealed subtypes
+            for (int i = 0; i < this.subtypes.length; i++) {
+                if (this.subtypes[i].isAssignableFrom(type)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    private static final class KeyTable {
+
+        private final String[] keys;
+
+        private KeyTable(@NotNull Class<?>[] subtypes, @NotNull KeyGenerator keyGenerator) {
+            this.keys = new String[subtypes.length];
+
+            var seen = new HashSet<String>(subtypes.length * 2);
+
+            for (int i = 0; i < subtypes.length; i++) {
+                var key = keyGenerator.generate(subtypes[i].getSimpleName());
+
+                if (!seen.add(key)) {
+                    throw new IllegalArgumentException("Duplicate key '" + key + "' for " + subtypes[i].getName());
+                }
+
+                this.keys[i] = key;
+            }
+        }
+    }
+
+    /**
+     * An interface to write/read the bodies of values to/from ranges of byte arrays,
+     * used by {@link #byIndexInPlace(Class, Function)}.
+     *
+     * @param <T> the type of values
+     */
+    public interface BodyCodec<T> {
+
+        /**
+         * Gets the number of bytes to write the value.
+         *
+         * @param value the value to write
+         * @return the number of bytes to write the value
+         */
+        int length(@NotNull T value);
+
+        /**
+         * Writes the value to the byte array.
+         * <p>
+         * Exactly {@link #length(Object)} bytes must be written from the offset.
+         *
+         * @param value  the value to write
+         * @param array  the byte array to write to
+         * @param offset the offset to write at
+         */
+        void write(@NotNull T value, byte @NotNull [] array, int offset);
+
+        /**
+         * Reads the value from the byte array.
+         *
+         * @param array  the byte array to read from
+         * @param offset the offset to read at
+         * @param length the number of bytes of the body
+         * @return the read value
+         */
+        @NotNull T read(byte @NotNull [] array, int offset, int length);
+
+    }
+}
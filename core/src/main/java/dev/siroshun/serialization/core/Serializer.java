@@ -31,6 +31,86 @@ import java.util.function.Function;
 @FunctionalInterface
 public interface Serializer<I, O> extends Function<I, O> {
 
+    /**
+     * Creates a {@link Serializer} that caches the results of the given {@link Serializer}.
+     * <p>
+     * The results are cached per input compared by {@link Object#equals(Object)},
+     * and the least recently used result is evicted when the number of cached results exceeds {@code maximumSize}.
+     * <p>
+     * The inputs must be immutable, and the given {@link Serializer} must return the same result for equal inputs.
+     * The returning {@link Serializer} is thread-safe.
+     * Caches with {@code maximumSize} of 128 or more are split into up to 16 segments by the hash of the input.
+     * Each segment has its own lock and evicts its own least recently used result,
+     * so concurrent callers only contend within a segment, and the eviction order is approximately LRU.
+     *
+     * @param serializer  the {@link Serializer} to cache the results
+     * @param maximumSize the maximum number of cached results
+     * @param <I>         the type of input
+     * @param <O>         the type of output
+     * @return a {@link Serializer} that caches the results
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+     */
+    static <I, O> @NotNull Serializer<I, O> cached(@NotNull Serializer<? super I, ? extends O> serializer, int maximumSize) {
+        Objects.requireNonNull(serializer);
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        return CachingSerializer.lru(serializer, maximumSize, false);
+    }
+
+    /**
+     * Creates a {@link Serializer} that caches the results of the given {@link Serializer} per input instance.
+     * <p>
+     * This is the same as {@link #cached(Serializer, int)}, but inputs are compared by their identities.
+     * This is useful for constants whose {@link Object#equals(Object)} is expensive.
+     *
+     * @param serializer  the {@link Serializer} to cache the results
+     * @param maximumSize the maximum number of cached results
+     * @param <I>         the type of input
+     * @param <O>         the type of output
+     * @return a {@link Serializer} that caches the results
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+     */
+    static <I, O> @NotNull Serializer<I, O> cachedByIdentity(@NotNull Serializer<? super I, ? extends O> serializer, int maximumSize) {
+        Objects.requireNonNull(serializer);
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        return CachingSerializer.lru(serializer, maximumSize, true);
+    }
+
+    /**
+     * Creates a {@link Serializer} that caches the results of the given {@link Serializer} with weak keys.
+     * <p>
+     * The results are cached per input compared by {@link Object#equals(Object)},
+     * and removed after the input is garbage collected,
+     * or when the number of cached results exceeds {@code maximumSize} as {@link #cached(Serializer, int)} does.
+     * Therefore, the results must not refer to the inputs.
+     * <p>
+     * The inputs must be immutable, and the given {@link Serializer} must return the same result for equal inputs.
+     * The returning {@link Serializer} is thread-safe.
+     *
+     * @param serializer  the {@link Serializer} to cache the results
+     * @param maximumSize the maximum number of cached results
+     * @param <I>         the type of input
+     * @param <O>         the type of output
+     * @return a {@link Serializer} that caches the results
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+     */
+    static <I, O> @NotNull Serializer<I, O> weaklyCached(@NotNull Serializer<? super I, ? extends O> serializer, int maximumSize) {
+        Objects.requireNonNull(serializer);
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+
+        return CachingSerializer.weak(serializer, maximumSize);
+    }
+
     /**
      * Serializes the object.
      *
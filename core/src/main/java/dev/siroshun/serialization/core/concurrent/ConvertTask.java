@@ -0,0 +1,151 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.SerializationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+// Converts ranges of an array with a function, splitting them with the fork/join framework above the threshold.
+// Tasks never leave the pool, so their (non-serializable) state is not made serializable.
+@SuppressWarnings("serial")
+final class ConvertTask extends RecursiveAction {
+
+    static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+    }
+
+    static <O> @NotNull List<O> convert(@NotNull Object[] elements, @NotNull Function<?, ?> function, int threshold, @NotNull ForkJoinPool pool) {
+        var results = new Object[elements.length];
+        invoke(pool, new ConvertTask(elements, results, function, 0, elements.length, threshold));
+        return new ArrayList<>(ConvertTask.<O>asList(results));
+    }
+
+    static <OK, OV> @NotNull Map<OK, OV> convert(@NotNull Map<?, ?> input, @NotNull Function<?, ?> keyFunction, @NotNull Function<?, ?> valueFunction,
+                                                 int threshold, @NotNull ForkJoinPool pool) {
+        int size = input.size();
+        var keys = new Object[size];
+        var values = new Object[size];
+        int i = 0;
+
+        for (var entry : input.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+
+        var convertedKeys = new Object[size];
+        var convertedValues = new Object[size];
+
+        invoke(pool,
+                new ConvertTask(keys, convertedKeys, keyFunction, 0, size, threshold),
+                new ConvertTask(values, convertedValues, valueFunction, 0, size, threshold)
+        );
+
+        var result = new LinkedHashMap<OK, OV>((int) (size / 0.75f) + 1);
+
+        for (int j = 0; j < size; j++) {
+            result.put(cast(convertedKeys[j]), cast(convertedValues[j]));
+
+            if (result.size() != j + 1) {
+                throw new SerializationException("Duplicate converted key " + convertedKeys[j] + " (from " + keys[j] + ")");
+            }
+        }
+
+        return result;
+    }
+
+    private static void invoke(@NotNull ForkJoinPool pool, @NotNull ConvertTask task) {
+        if (task.end - task.start <= task.threshold) {
+            // Small inputs are not worth submitting to the pool.
+            task.compute();
+        } else if (ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    private static void invoke(@NotNull ForkJoinPool pool, @NotNull ConvertTask first, @NotNull ConvertTask second) {
+        if (first.end - first.start <= first.threshold) {
+            first.compute();
+            second.compute();
+        } else if (ForkJoinTask.getPool() == pool) {
+            ForkJoinTask.invokeAll(first, second);
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(first, second)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> asList(@NotNull Object[] array) {
+        return (List<T>) Arrays.asList(array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object obj) {
+        return (T) obj;
+    }
+
+    private final Object[] input;
+    private final Object[] output;
+    private final Function<?, ?> function;
+    private final int start;
+    private final int end;
+    private final int threshold;
+
+    private ConvertTask(@NotNull Object[] input, @NotNull Object[] output, @NotNull Function<?, ?> function, int start, int end, int threshold) {
+        this.input = input;
+        this.output = output;
+        this.function = function;
+        this.start = start;
+        this.end = end;
+        this.threshold = threshold;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Override
+    protected void compute() {
+        if (this.end - this.start <= this.threshold) {
+            var function = (Function) this.function;
+
+            for (int i = this.start; i < this.end; i++) {
+                var element = this.input[i];
+                this.output[i] = element != null ? function.apply(element) : null;
+            }
+
+            return;
+        }
+
+        int middle = (this.start + this.end) >>> 1;
+        invokeAll(
+                new ConvertTask(this.input, this.output, this.function, this.start, middle, this.threshold),
+                new ConvertTask(this.input, this.output, this.function, middle, this.end, this.threshold)
+        );
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A pipeline that deserializes independent inputs concurrently using {@link Deserializer}s in the {@link DeserializerRegistry}.
+ * <p>
+ * The number of deserializations that are running or waiting for the {@link Executor} is bounded by {@code maxInFlight}.
+ * When the limit is reached, {@link #submit(Class, Object)} blocks until one of them completes.
+ * <p>
+ * If the {@link DeserializerRegistry} is frozen, the {@link Deserializer} of each class is resolved only once.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <S> a type of objects to deserialize
+ */
+public final class DeserializationPipeline<S> {
+
+    /**
+     * Creates a new {@link DeserializationPipeline}.
+     * <p>
+     * The given {@link Executor} is not shut down by the pipeline.
+     * For example, {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()} or a fixed thread pool can be used.
+     *
+     * @param registry    the {@link DeserializerRegistry} to get {@link Deserializer}s
+     * @param executor    the {@link Executor} to run deserializations
+     * @param maxInFlight the maximum number of deserializations in flight
+     * @param <S>         a type of objects to deserialize
+     * @return a new {@link DeserializationPipeline}
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
+     */
+    @Contract("_, _, _ -> new")
+    public static <S> @NotNull DeserializationPipeline<S> create(@NotNull DeserializerRegistry<S> registry, @NotNull Executor executor, int maxInFlight) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(executor);
+
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+
+        return new DeserializationPipeline<>(registry, executor, maxInFlight);
+    }
+
+    private final DeserializerRegistry<S> registry;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final Map<Class<?>, Deserializer<S, ?>> deserializerCache = new ConcurrentHashMap<>();
+
+    private DeserializationPipeline(@NotNull DeserializerRegistry<S> registry, @NotNull Executor executor, int maxInFlight) {
+        this.registry = registry;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Submits the input to deserialize.
+     * <p>
+     * This method blocks while the number of deserializations in flight reaches the limit.
+     * <p>
+     * The returning {@link CompletableFuture} completes exceptionally with {@link SerializationException}
+     * if the {@link Deserializer} for the class is not registered or the deserialization fails.
+     *
+     * @param type  the class of the object after deserialization
+     * @param input the object to deserialize
+     * @param <T>   a type of the object after deserialization
+     * @return the {@link CompletableFuture} that completes with the deserialized object
+     * @throws SerializationException if the current thread is interrupted while waiting
+     */
+    public <T> @NotNull CompletableFuture<T> submit(@NotNull Class<T> type, @NotNull S input) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(input);
+
+        Deserializer<S, T> deserializer;
+
+        try {
+            deserializer = this.getDeserializer(type);
+        } catch (SerializationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            this.permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Interrupted while waiting for deserializations in flight.", e);
+        }
+
+        var future = new CompletableFuture<T>();
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    future.complete(deserializer.deserialize(input));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e instanceof SerializationException ? e : new SerializationException(e));
+                } finally {
+                    this.permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.permits.release();
+            future.completeExceptionally(new SerializationException("The executor rejected the deserialization.", e));
+        }
+
+        return future;
+    }
+
+    /**
+     * Deserializes the inputs concurrently and returns the results as a lazy {@link Stream}.
+     * <p>
+     * The inputs are read only when the returning {@link Stream} is consumed,
+     * and at most {@code maxInFlight} results are deserialized ahead of the consumer.
+     * <p>
+     * If the deserialization of an input fails, consuming the result throws {@link SerializationException}.
+     *
+     * @param inputs  the inputs to deserialize
+     * @param ordered {@code true} to return the results in the order of the inputs, or {@code false} to return them in the order of completion
+     * @return the {@link Stream} of deserialized objects
+     */
+    public @NotNull Stream<Object> deserialize(@NotNull Stream<? extends Input<? extends S>> inputs, boolean ordered) {
+        Objects.requireNonNull(inputs);
+        var spliterator = new ResultSpliterator(inputs.iterator(), ordered);
+        return StreamSupport.stream(spliterator, false).onClose(inputs::close);
+    }
+
+    /**
+     * Deserializes the inputs to the specified class concurrently and returns the results as a lazy {@link Stream}.
+     *
+     * @param type    the class of the objects after deserialization
+     * @param inputs  the inputs to deserialize
+     * @param ordered {@code true} to return the results in the order of the inputs, or {@code false} to return them in the order of completion
+     * @param <T>     a type of the objects after deserialization
+     * @return the {@link Stream} of deserialized objects
+     * @see #deserialize(Stream, boolean)
+     */
+    public <T> @NotNull Stream<T> deserialize(@NotNull Class<T> type, @NotNull Stream<? extends S> inputs, boolean ordered) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(inputs);
+        return this.deserialize(inputs.map(input -> new Input<S>(type, input)), ordered).map(type::cast);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @NotNull Deserializer<S, T> getDeserializer(@NotNull Class<T> type) {
+        var cached = this.deserializerCache.get(type);
+
+        if (cached != null) {
+            return (Deserializer<S, T>) cached;
+        }
+
+        var deserializer = this.registry.get(type);
+
+        if (deserializer == null) {
+            throw new SerializationException("No deserializer registered for " + type.getName());
+        }
+
+        // The registered deserializers cannot be changed after freezing.
+        if (this.registry.isFrozen()) {
+            this.deserializerCache.put(type, deserializer);
+        }
+
+        return deserializer;
+    }
+
+    private static Object join(@NotNull CompletableFuture<?> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SerializationException cause) {
+                throw cause;
+            }
+            throw new SerializationException(e.getCause());
+        }
+    }
+
+    /**
+     * An input of {@link DeserializationPipeline}.
+     *
+     * @param type  the class of the object after deserialization
+     * @param value the object to deserialize
+     * @param <S>   a type of objects to deserialize
+     */
+    public record Input<S>(@NotNull Class<?> type, @NotNull S value) {
+
+        /**
+         * Creates a new {@link Input}.
+         *
+         * @param type  the class of the object after deserialization
+         * @param value the object to deserialize
+         */
+        public Input {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(value);
+        }
+    }
+
+    private final class ResultSpliterator extends Spliterators.AbstractSpliterator<Object> {
+
+        private final Iterator<? extends Input<? extends S>> inputs;
+        private final boolean ordered;
+        private final ArrayDeque<CompletableFuture<?>> pending = new ArrayDeque<>();
+        private final BlockingQueue<CompletableFuture<?>> completed = new LinkedBlockingQueue<>();
+        private int inFlight;
+
+        private ResultSpliterator(@NotNull Iterator<? extends Input<? extends S>> inputs, boolean ordered) {
+            super(Long.MAX_VALUE, ordered ? Spliterator.ORDERED : 0);
+            this.inputs = inputs;
+            this.ordered = ordered;
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull Consumer<? super Object> action) {
+            while (this.inFlight < DeserializationPipeline.this.maxInFlight && this.inputs.hasNext()) {
+                var input = this.inputs.next();
+                var future = DeserializationPipeline.this.submit(input.type(), input.value());
+                this.inFlight++;
+
+                if (this.ordered) {
+                    this.pending.add(future);
+                } else {
+                    future.whenComplete((result, ex) -> this.completed.add(future));
+                }
+            }
+
+            if (this.inFlight == 0) {
+                return false;
+            }
+
+            CompletableFuture<?> next;
+
+            if (this.ordered) {
+                next = this.pending.remove();
+            } else {
+                try {
+                    next = this.completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SerializationException("Interrupted while waiting for deserialization results.", e);
+                }
+            }
+
+            this.inFlight--;
+            action.accept(join(next));
+            return true;
+        }
+    }
+}
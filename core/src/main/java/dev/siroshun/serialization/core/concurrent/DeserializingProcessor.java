@@ -0,0 +1,323 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Processor} that deserializes the items of the upstream {@link Flow.Publisher} one by one.
+ * <p>
+ * This processor requests items from the upstream in batches of {@code batchSize},
+ * and requests the next items after three quarters of the batch are delivered to the downstream.
+ * The number of buffered items never exceeds {@code batchSize}, so unbounded sequences can be deserialized without materializing them.
+ * <p>
+ * When the deserialization fails or the upstream signals an error, the downstream receives {@link SerializationException} via {@link Flow.Subscriber#onError(Throwable)}.
+ * <p>
+ * This processor supports only one upstream and one downstream {@link Flow.Subscriber}.
+ *
+ * @param <S> a type of objects to deserialize
+ * @param <T> a type of objects after deserialization
+ */
+public final class DeserializingProcessor<S, T> implements Flow.Processor<S, T> {
+
+    /**
+     * Creates a new {@link DeserializingProcessor}.
+     *
+     * @param deserializer the {@link Deserializer} to deserialize items
+     * @param batchSize    the number of items to request from the upstream at once
+     * @param <S>          a type of objects to deserialize
+     * @param <T>          a type of objects after deserialization
+     * @return a new {@link DeserializingProcessor}
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     */
+    @Contract("_, _ -> new")
+    public static <S, T> @NotNull DeserializingProcessor<S, T> create(@NotNull Deserializer<? super S, ? extends T> deserializer, int batchSize) {
+        Objects.requireNonNull(deserializer);
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+
+        return new DeserializingProcessor<>(deserializer, batchSize);
+    }
+
+    /**
+     * Creates a new {@link DeserializingProcessor} using the {@link Deserializer} registered in the {@link DeserializerRegistry}.
+     *
+     * @param registry  the {@link DeserializerRegistry} to get the {@link Deserializer}
+     * @param clazz     the class of objects after deserialization
+     * @param batchSize the number of items to request from the upstream at once
+     * @param <S>       a type of objects to deserialize
+     * @param <T>       a type of objects after deserialization
+     * @return a new {@link DeserializingProcessor}
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1, or the {@link Deserializer} is not registered
+     */
+    @Contract("_, _, _ -> new")
+    public static <S, T> @NotNull DeserializingProcessor<S, T> create(@NotNull DeserializerRegistry<S> registry, @NotNull Class<T> clazz, int batchSize) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(clazz);
+
+        var deserializer = registry.get(clazz);
+
+        if (deserializer == null) {
+            throw new IllegalArgumentException("No deserializer registered for " + clazz.getName());
+        }
+
+        return create(deserializer, batchSize);
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} that publishes the deserialized items of the given {@link Flow.Publisher}.
+     *
+     * @param publisher    the {@link Flow.Publisher} that publishes objects to deserialize
+     * @param deserializer the {@link Deserializer} to deserialize items
+     * @param batchSize    the number of items to request from the given {@link Flow.Publisher} at once
+     * @param <S>          a type of objects to deserialize
+     * @param <T>          a type of objects after deserialization
+     * @return a {@link Flow.Publisher} that publishes the deserialized items
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     */
+    public static <S, T> @NotNull Flow.Publisher<T> deserialize(@NotNull Flow.Publisher<? extends S> publisher,
+                                                                @NotNull Deserializer<? super S, ? extends T> deserializer, int batchSize) {
+        Objects.requireNonNull(publisher);
+        var processor = DeserializingProcessor.<S, T>create(deserializer, batchSize);
+        publisher.subscribe(processor);
+        return processor;
+    }
+
+    private final Deserializer<? super S, ? extends T> deserializer;
+    private final int batchSize;
+    private final int replenishThreshold;
+
+    private final AtomicReference<Flow.Subscriber<? super T>> downstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final Queue<S> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    // The following fields are accessed only in drain loop.
+    private boolean started;
+    private boolean terminated;
+    private int consumed;
+
+    private DeserializingProcessor(@NotNull Deserializer<? super S, ? extends T> deserializer, int batchSize) {
+        this.deserializer = deserializer;
+        this.batchSize = batchSize;
+        this.replenishThreshold = Math.max(1, batchSize - (batchSize >> 2));
+    }
+
+    @Override
+    public void subscribe(@NotNull Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        if (this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new DownstreamSubscription());
+            this.drain();
+        } else {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("This processor supports only one subscriber."));
+        }
+    }
+
+    @Override
+    public void onSubscribe(@NotNull Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        if (!this.upstream.compareAndSet(null, subscription) || this.cancelled) {
+            subscription.cancel();
+            return;
+        }
+
+        this.drain();
+    }
+
+    @Override
+    public void onNext(@NotNull S item) {
+        Objects.requireNonNull(item);
+        this.queue.offer(item);
+        this.drain();
+    }
+
+    @Override
+    public void onError(@NotNull Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        this.error = throwable instanceof SerializationException ? throwable : new SerializationException(throwable);
+        this.done = true;
+        this.drain();
+    }
+
+    @Override
+    public void onComplete() {
+        this.done = true;
+        this.drain();
+    }
+
+    private void drain() {
+        if (this.wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            var subscriber = this.downstream.get();
+            var subscription = this.upstream.get();
+
+            if (subscriber != null && subscription != null && !this.terminated) {
+                this.drain(subscriber, subscription);
+            }
+
+            missed = this.wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drain(@NotNull Flow.Subscriber<? super T> subscriber, @NotNull Flow.Subscription subscription) {
+        if (this.cancelled) {
+            this.terminated = true;
+            this.queue.clear();
+            return;
+        }
+
+        if (!this.started) {
+            this.started = true;
+            subscription.request(this.batchSize);
+        }
+
+        long requested = this.requested.get();
+        long emitted = 0;
+
+        while (emitted != requested) {
+            if (this.cancelled) {
+                this.terminated = true;
+                this.queue.clear();
+                return;
+            }
+
+            boolean done = this.done;
+            var item = this.queue.poll();
+
+            if (item == null) {
+                if (done) {
+                    this.terminate(subscriber, this.error);
+                    return;
+                }
+                break;
+            }
+
+            T value;
+
+            try {
+                value = this.deserializer.deserialize(item);
+            } catch (Throwable e) {
+                subscription.cancel();
+                this.terminate(subscriber, e instanceof SerializationException ? e : new SerializationException(e));
+                return;
+            }
+
+            subscriber.onNext(value);
+            emitted++;
+
+            if (++this.consumed == this.replenishThreshold) {
+                this.consumed = 0;
+                subscription.request(this.replenishThreshold);
+            }
+        }
+
+        if (this.done && this.queue.isEmpty()) {
+            this.terminate(subscriber, this.error);
+            return;
+        }
+
+        if (emitted != 0 && requested != Long.MAX_VALUE) {
+            this.requested.addAndGet(-emitted);
+        }
+    }
+
+    private void terminate(@NotNull Flow.Subscriber<? super T> subscriber, Throwable error) {
+        this.terminated = true;
+        this.queue.clear();
+
+        if (error == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(error);
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            var processor = DeserializingProcessor.this;
+
+            if (n <= 0) {
+                processor.cancelUpstream();
+                processor.error = new IllegalArgumentException("The number of requested items must be positive: " + n);
+                processor.done = true;
+                processor.queue.clear();
+                processor.requested.set(Long.MAX_VALUE);
+            } else {
+                processor.requested.getAndAccumulate(n, (current, add) -> {
+                    long sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+
+            processor.drain();
+        }
+
+        @Override
+        public void cancel() {
+            var processor = DeserializingProcessor.this;
+            processor.cancelled = true;
+            processor.cancelUpstream();
+            processor.drain();
+        }
+    }
+
+    private void cancelUpstream() {
+        var subscription = this.upstream.get();
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A utility class to create {@link Deserializer}s that deserialize large collections and maps in parallel.
+ * <p>
+ * The returning {@link Deserializer}s split the input using the fork/join framework when its size exceeds the threshold,
+ * deserialize the chunks concurrently, and return the results in the iteration order of the input.
+ * The returning {@link List}s and {@link Map}s are mutable ({@link java.util.ArrayList} and {@link java.util.LinkedHashMap}).
+ * Inputs that do not exceed the threshold are deserialized on the calling thread.
+ * <p>
+ * The element {@link Deserializer}s must be thread-safe. {@code null} elements are deserialized to {@code null}.
+ *
+ * @see ParallelSerializers
+ */
+public final class ParallelDeserializers {
+
+    /**
+     * Creates a {@link Deserializer} that deserializes the elements of {@link Collection}s in parallel.
+     *
+     * @param elementDeserializer the {@link Deserializer} to deserialize elements
+     * @param threshold           the maximum number of elements to deserialize without splitting
+     * @param pool                the {@link ForkJoinPool} to run the deserialization
+     * @param <I>                 the type of serialized elements
+     * @param <E>                 the type of elements
+     * @return a {@link Deserializer} that deserializes the elements of {@link Collection}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    public static <I, E> @NotNull Deserializer<Collection<? extends I>, List<E>> collection(@NotNull Deserializer<? super I, ? extends E> elementDeserializer,
+                                                                                           int threshold, @NotNull ForkJoinPool pool) {
+        Objects.requireNonNull(elementDeserializer);
+        Objects.requireNonNull(pool);
+        ConvertTask.checkThreshold(threshold);
+
+        return input -> ConvertTask.convert(input.toArray(), elementDeserializer, threshold, pool);
+    }
+
+    /**
+     * Creates a {@link Deserializer} that deserializes the elements of {@link Collection}s in parallel
+     * using the {@link Deserializer} registered in the {@link DeserializerRegistry}.
+     * <p>
+     * This is useful to deserialize the collection whose element type is specified by {@code @CollectionType}.
+     *
+     * @param registry    the {@link DeserializerRegistry} to get the {@link Deserializer} of elements
+     * @param elementType the class of elements
+     * @param threshold   the maximum number of elements to deserialize without splitting
+     * @param <I>         the type of serialized elements
+     * @param <E>         the type of elements
+     * @return a {@link Deserializer} that deserializes the elements of {@link Collection}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1, or the {@link Deserializer} of the element type is not registered
+     * @see #collection(Deserializer, int, ForkJoinPool)
+     */
+    public static <I, E> @NotNull Deserializer<Collection<? extends I>, List<E>> collection(@NotNull DeserializerRegistry<I> registry, @NotNull Class<E> elementType, int threshold) {
+        return collection(getDeserializer(registry, elementType), threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link Deserializer} that deserializes the keys and values of {@link Map}s in parallel.
+     * <p>
+     * The keys and the values are deserialized concurrently, and the returning {@link Map} keeps the iteration order of the input.
+     *
+     * @param keyDeserializer   the {@link Deserializer} to deserialize keys
+     * @param valueDeserializer the {@link Deserializer} to deserialize values
+     * @param threshold         the maximum number of entries to deserialize without splitting
+     * @param pool              the {@link ForkJoinPool} to run the deserialization
+     * @param <IK>              the type of serialized keys
+     * @param <IV>              the type of serialized values
+     * @param <K>               the type of keys
+     * @param <V>               the type of values
+     * @return a {@link Deserializer} that deserializes the keys and values of {@link Map}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     * @throws SerializationException    (on deserializing) if two keys are deserialized to equal objects
+     */
+    public static <IK, IV, K, V> @NotNull Deserializer<Map<? extends IK, ? extends IV>, Map<K, V>> map(@NotNull Deserializer<? super IK, ? extends K> keyDeserializer,
+                                                                                                      @NotNull Deserializer<? super IV, ? extends V> valueDeserializer,
+                                                                                                      int threshold, @NotNull ForkJoinPool pool) {
+        Objects.requireNonNull(keyDeserializer);
+        Objects.requireNonNull(valueDeserializer);
+        Objects.requireNonNull(pool);
+        ConvertTask.checkThreshold(threshold);
+
+        return input -> ConvertTask.convert(input, keyDeserializer, valueDeserializer, threshold, pool);
+    }
+
+    /**
+     * Creates a {@link Deserializer} that deserializes the keys and values of {@link Map}s in parallel
+     * using the {@link Deserializer}s registered in the {@link DeserializerRegistry}.
+     * <p>
+     * This is useful to deserialize the map whose key/value types are specified by {@code @MapType}.
+     *
+     * @param registry  the {@link DeserializerRegistry} to get the {@link Deserializer}s of keys and values
+     * @param keyType   the class of keys
+     * @param valueType the class of values
+     * @param threshold the maximum number of entries to deserialize without splitting
+     * @param <I>       the type of serialized keys and values
+     * @param <K>       the type of keys
+     * @param <V>       the type of values
+     * @return a {@link Deserializer} that deserializes the keys and values of {@link Map}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1, or the {@link Deserializer} of the key or value type is not registered
+     * @throws SerializationException    (on deserializing) if two keys are deserialized to equal objects
+     * @see #map(Deserializer, Deserializer, int, ForkJoinPool)
+     */
+    public static <I, K, V> @NotNull Deserializer<Map<? extends I, ? extends I>, Map<K, V>> map(@NotNull DeserializerRegistry<I> registry, @NotNull Class<K> keyType,
+                                                                                               @NotNull Class<V> valueType, int threshold) {
+        return map(getDeserializer(registry, keyType), getDeserializer(registry, valueType), threshold, ForkJoinPool.commonPool());
+    }
+
+    private static <I, T> @NotNull Deserializer<I, T> getDeserializer(@NotNull DeserializerRegistry<I> registry, @NotNull Class<T> clazz) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(clazz);
+
+        var deserializer = registry.get(clazz);
+
+        if (deserializer == null) {
+            throw new IllegalArgumentException("No deserializer registered for " + clazz.getName());
+        }
+
+        return deserializer;
+    }
+
+    private ParallelDeserializers() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.Serializer;
+import dev.siroshun.serialization.core.registry.SerializerRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A utility class to create {@link Serializer}s that serialize large collections and maps in parallel.
+ * <p>
+ * The returning {@link Serializer}s split the input using the fork/join framework when its size exceeds the threshold,
+ * serialize the chunks concurrently, and return the results in the iteration order of the input.
+ * The returning {@link List}s and {@link Map}s are mutable ({@link java.util.ArrayList} and {@link java.util.LinkedHashMap}).
+ * Inputs that do not exceed the threshold are serialized on the calling thread.
+ * <p>
+ * The element {@link Serializer}s must be thread-safe. {@code null} elements are serialized to {@code null}.
+ *
+ * @see ParallelDeserializers
+ */
+public final class ParallelSerializers {
+
+    /**
+     * Creates a {@link Serializer} that serializes the elements of {@link Collection}s in parallel.
+     *
+     * @param elementSerializer the {@link Serializer} to serialize elements
+     * @param threshold         the maximum number of elements to serialize without splitting
+     * @param pool              the {@link ForkJoinPool} to run the serialization
+     * @param <E>               the type of elements
+     * @param <O>               the type of serialized elements
+     * @return a {@link Serializer} that serializes the elements of {@link Collection}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    public static <E, O> @NotNull Serializer<Collection<? extends E>, List<O>> collection(@NotNull Serializer<? super E, ? extends O> elementSerializer,
+                                                                                         int threshold, @NotNull ForkJoinPool pool) {
+        Objects.requireNonNull(elementSerializer);
+        Objects.requireNonNull(pool);
+        ConvertTask.checkThreshold(threshold);
+
+        return input -> ConvertTask.convert(input.toArray(), elementSerializer, threshold, pool);
+    }
+
+    /**
+     * Creates a {@link Serializer} that serializes the elements of {@link Collection}s in parallel
+     * using the {@link Serializer} registered in the {@link SerializerRegistry}.
+     * <p>
+     * This is useful to serialize the collection whose element type is specified by {@code @CollectionType}.
+     *
+     * @param registry    the {@link SerializerRegistry} to get the {@link Serializer} of elements
+     * @param elementType the class of elements
+     * @param threshold   the maximum number of elements to serialize without splitting
+     * @param <E>         the type of elements
+     * @param <O>         the type of serialized elements
+     * @return a {@link Serializer} that serializes the elements of {@link Collection}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1, or the {@link Serializer} of the element type is not registered
+     * @see #collection(Serializer, int, ForkJoinPool)
+     */
+    public static <E, O> @NotNull Serializer<Collection<? extends E>, List<O>> collection(@NotNull SerializerRegistry<O> registry, @NotNull Class<E> elementType, int threshold) {
+        return collection(getSerializer(registry, elementType), threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@link Serializer} that serializes the keys and values of {@link Map}s in parallel.
+     * <p>
+     * The keys and the values are serialized concurrently, and the returning {@link Map} keeps the iteration order of the input.
+     *
+     * @param keySerializer   the {@link Serializer} to serialize keys
+     * @param valueSerializer the {@link Serializer} to serialize values
+     * @param threshold       the maximum number of entries to serialize without splitting
+     * @param pool            the {@link ForkJoinPool} to run the serialization
+     * @param <K>             the type of keys
+     * @param <V>             the type of values
+     * @param <OK>            the type of serialized keys
+     * @param <OV>            the type of serialized values
+     * @return a {@link Serializer} that serializes the keys and values of {@link Map}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     * @throws SerializationException    (on serializing) if two keys are serialized to equal objects
+     */
+    public static <K, V, OK, OV> @NotNull Serializer<Map<? extends K, ? extends V>, Map<OK, OV>> map(@NotNull Serializer<? super K, ? extends OK> keySerializer,
+                                                                                                    @NotNull Serializer<? super V, ? extends OV> valueSerializer,
+                                                                                                    int threshold, @NotNull ForkJoinPool pool) {
+        Objects.requireNonNull(keySerializer);
+        Objects.requireNonNull(valueSerializer);
+        Objects.requireNonNull(pool);
+        ConvertTask.checkThreshold(threshold);
+
+        return input -> ConvertTask.convert(input, keySerializer, valueSerializer, threshold, pool);
+    }
+
+    /**
+     * Creates a {@link Serializer} that serializes the keys and values of {@link Map}s in parallel
+     * using the {@link Serializer}s registered in the {@link SerializerRegistry}.
+     * <p>
+     * This is useful to serialize the map whose key/value types are specified by {@code @MapType}.
+     *
+     * @param registry  the {@link SerializerRegistry} to get the {@link Serializer}s of keys and values
+     * @param keyType   the class of keys
+     * @param valueType the class of values
+     * @param threshold the maximum number of entries to serialize without splitting
+     * @param <K>       the type of keys
+     * @param <V>       the type of values
+     * @param <O>       the type of serialized keys and values
+     * @return a {@link Serializer} that serializes the keys and values of {@link Map}s in parallel
+     * @throws IllegalArgumentException if {@code threshold} is less than 1, or the {@link Serializer} of the key or value type is not registered
+     * @throws SerializationException    (on serializing) if two keys are serialized to equal objects
+     * @see #map(Serializer, Serializer, int, ForkJoinPool)
+     */
+    public static <K, V, O> @NotNull Serializer<Map<? extends K, ? extends V>, Map<O, O>> map(@NotNull SerializerRegistry<O> registry, @NotNull Class<K> keyType,
+                                                                                             @NotNull Class<V> valueType, int threshold) {
+        return map(getSerializer(registry, keyType), getSerializer(registry, valueType), threshold, ForkJoinPool.commonPool());
+    }
+
+    private static <T, O> @NotNull Serializer<T, O> getSerializer(@NotNull SerializerRegistry<O> registry, @NotNull Class<T> clazz) {
+        Objects.requireNonNull(registry);
+        Objects.requireNonNull(clazz);
+
+        var serializer = registry.get(clazz);
+
+        if (serializer == null) {
+            throw new IllegalArgumentException("No serializer registered for " + clazz.getName());
+        }
+
+        return serializer;
+    }
+
+    private ParallelSerializers() {
+        throw new UnsupportedOperationException();
+    }
+}
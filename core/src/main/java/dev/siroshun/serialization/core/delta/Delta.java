@@ -0,0 +1,151 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.delta;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A record that holds the difference between two serialized maps.
+ *
+ * @param changed the entries that are added or changed
+ * @param removed the keys that are removed
+ * @param <K>     the type of keys
+ * @param <V>     the type of values
+ */
+public record Delta<K, V>(@NotNull Map<K, V> changed, @NotNull Set<K> removed) {
+
+    private static final Delta<?, ?> EMPTY = new Delta<>(Map.of(), Set.of());
+
+    /**
+     * Returns an empty {@link Delta}.
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return an empty {@link Delta}
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> @NotNull Delta<K, V> empty() {
+        return (Delta<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates a {@link Delta} from the previous map to the current map.
+     * <p>
+     * Values are compared by {@link Objects#equals(Object, Object)}.
+     * The changed entries and the removed keys keep the iteration order of the current and the previous map.
+     *
+     * @param previous the previous map
+     * @param current  the current map
+     * @param <K>      the type of keys
+     * @param <V>      the type of values
+     * @return a {@link Delta} from the previous map to the current map
+     */
+    public static <K, V> @NotNull Delta<K, V> between(@NotNull Map<K, V> previous, @NotNull Map<K, V> current) {
+        Objects.requireNonNull(previous);
+        Objects.requireNonNull(current);
+
+        Map<K, V> changed = null;
+        int added = 0;
+
+        for (var entry : current.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            var previousValue = previous.get(key);
+
+            if (Objects.equals(previousValue, value) && (previousValue != null || previous.containsKey(key))) {
+                continue;
+            }
+
+            if (changed == null) {
+                changed = new LinkedHashMap<>();
+            }
+
+            changed.put(key, value);
+
+            if (previousValue == null && !previous.containsKey(key)) {
+                added++;
+            }
+        }
+
+        Set<K> removed = null;
+
+        // If all the previous keys remain, no need to look for removed keys.
+        if (previous.size() + added != current.size()) {
+            for (var key : previous.keySet()) {
+                if (!current.containsKey(key)) {
+                    if (removed == null) {
+                        removed = new LinkedHashSet<>();
+                    }
+                    removed.add(key);
+                }
+            }
+        }
+
+        if (changed == null && removed == null) {
+            return empty();
+        }
+
+        return new Delta<>(
+                changed != null ? Collections.unmodifiableMap(changed) : Map.of(),
+                removed != null ? Collections.unmodifiableSet(removed) : Set.of()
+        );
+    }
+
+    /**
+     * Creates a new {@link Delta}.
+     *
+     * @param changed the entries that are added or changed
+     * @param removed the keys that are removed
+     */
+    public Delta {
+        Objects.requireNonNull(changed);
+        Objects.requireNonNull(removed);
+    }
+
+    /**
+     * Checks if this {@link Delta} has no changes.
+     *
+     * @return {@code true} if this {@link Delta} has no changes, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.changed.isEmpty() && this.removed.isEmpty();
+    }
+
+    /**
+     * Applies this {@link Delta} to the given map and returns the result as a new map.
+     * <p>
+     * The result keeps the iteration order of the given map, followed by the added keys in the order of {@link #changed()}.
+     *
+     * @param base the map to apply this {@link Delta}
+     * @return a new map that this {@link Delta} is applied to
+     */
+    public @NotNull Map<K, V> applyTo(@NotNull Map<K, V> base) {
+        Objects.requireNonNull(base);
+
+        var result = new LinkedHashMap<>(base);
+        this.removed.forEach(result::remove);
+        result.putAll(this.changed);
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.delta;
+
+import dev.siroshun.serialization.core.Deserializer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Deserializer} that applies {@link Delta}s to the current map and deserializes the result.
+ * <p>
+ * This {@link Deserializer} is a counterpart of {@link DeltaSerializer}, and must receive all {@link Delta}s in order.
+ * If an empty {@link Delta} is received, the last deserialized object is returned without deserializing again.
+ * <p>
+ * This class is thread-safe, but the order of {@link Delta}s matters, so calls should be serialized by the caller.
+ *
+ * @param <K> the type of keys of serialized maps
+ * @param <V> the type of values of serialized maps
+ * @param <T> the type of objects after deserialization
+ */
+public final class DeltaDeserializer<K, V, T> implements Deserializer<Delta<K, V>, T> {
+
+    /**
+     * Creates a new {@link DeltaDeserializer}.
+     *
+     * @param deserializer the {@link Deserializer} to deserialize maps
+     * @param <K>          the type of keys of serialized maps
+     * @param <V>          the type of values of serialized maps
+     * @param <T>          the type of objects after deserialization
+     * @return a new {@link DeltaDeserializer}
+     */
+    @Contract("_ -> new")
+    public static <K, V, T> @NotNull DeltaDeserializer<K, V, T> create(@NotNull Deserializer<? super Map<K, V>, ? extends T> deserializer) {
+        Objects.requireNonNull(deserializer);
+        return new DeltaDeserializer<>(deserializer);
+    }
+
+    private final Deserializer<? super Map<K, V>, ? extends T> deserializer;
+    private Map<K, V> currentMap = Map.of();
+    private T current;
+    private boolean deserialized;
+
+    private DeltaDeserializer(@NotNull Deserializer<? super Map<K, V>, ? extends T> deserializer) {
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public synchronized T deserialize(@NotNull Delta<K, V> input) {
+        Objects.requireNonNull(input);
+
+        if (input.isEmpty() && this.deserialized) {
+            return this.current;
+        }
+
+        var map = input.applyTo(this.currentMap);
+        var result = this.deserializer.deserialize(map);
+
+        this.currentMap = map;
+        this.current = result;
+        this.deserialized = true;
+
+        return result;
+    }
+
+    /**
+     * Forgets the current state, so this {@link Deserializer} can receive {@link Delta}s from the beginning.
+     */
+    public synchronized void reset() {
+        this.currentMap = Map.of();
+        this.current = null;
+        this.deserialized = false;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.delta;
+
+import dev.siroshun.serialization.core.Serializer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Serializer} that serializes objects to {@link Delta}s from the previously serialized map.
+ * <p>
+ * This {@link Serializer} remembers the last input and its serialized map.
+ * If the input is the same instance as the last input or is equal to it, the input is not serialized again and an empty {@link Delta} is returned.
+ * Otherwise, the input is serialized by the delegating {@link Serializer}, and only the changed entries are returned.
+ * The first input is returned as a {@link Delta} that contains all the entries.
+ * <p>
+ * Therefore, the inputs should be immutable objects such as records.
+ * The receiving side can restore objects using {@link DeltaDeserializer}.
+ * <p>
+ * This class is thread-safe, but the order of {@link Delta}s matters, so calls should be serialized by the caller.
+ *
+ * @param <T> the type of objects to serialize
+ * @param <K> the type of keys of serialized maps
+ * @param <V> the type of values of serialized maps
+ */
+public final class DeltaSerializer<T, K, V> implements Serializer<T, Delta<K, V>> {
+
+    /**
+     * Creates a new {@link DeltaSerializer}.
+     *
+     * @param serializer the {@link Serializer} to serialize objects to maps
+     * @param <T>        the type of objects to serialize
+     * @param <K>        the type of keys of serialized maps
+     * @param <V>        the type of values of serialized maps
+     * @return a new {@link DeltaSerializer}
+     */
+    @Contract("_ -> new")
+    public static <T, K, V> @NotNull DeltaSerializer<T, K, V> create(@NotNull Serializer<? super T, ? extends Map<K, V>> serializer) {
+        Objects.requireNonNull(serializer);
+        return new DeltaSerializer<>(serializer);
+    }
+
+    private final Serializer<? super T, ? extends Map<K, V>> serializer;
+    private T previousInput;
+    private Map<K, V> previousMap = Map.of();
+
+    private DeltaSerializer(@NotNull Serializer<? super T, ? extends Map<K, V>> serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public synchronized @NotNull Delta<K, V> serialize(@NotNull T input) {
+        Objects.requireNonNull(input);
+
+        if (this.previousInput == input || (this.previousInput != null && this.previousInput.equals(input))) {
+            return Delta.empty();
+        }
+
+        var map = this.serializer.serialize(input);
+        var delta = Delta.between(this.previousMap, map);
+
+        this.previousInput = input;
+        this.previousMap = map;
+
+        return delta;
+    }
+
+    /**
+     * Forgets the last input, so the next {@link #serialize(Object)} returns a {@link Delta} that contains all the entries.
+     */
+    public synchronized void reset() {
+        this.previousInput = null;
+        this.previousMap = Map.of();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.pool;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A pool of objects to reuse.
+ * <p>
+ * The implementations of this interface are thread-safe.
+ *
+ * @param <T> the type of objects
+ */
+public interface ObjectPool<T> {
+
+    /**
+     * Creates an {@link ObjectPool} that keeps objects per thread.
+     * <p>
+     * This pool does not need synchronization, but objects released by a thread cannot be acquired by other threads.
+     * This is not suitable for virtual threads because each of them has its own pool.
+     * <p>
+     * The objects are kept by the threads until they are acquired, {@link #clear()} is called on the threads,
+     * or the threads terminate. Long-lived threads such as the workers of executors should call {@link #clear()}
+     * when they stop using this pool.
+     *
+     * @param maximumSize the maximum number of objects that each thread keeps
+     * @param <T>         the type of objects
+     * @return a new {@link ObjectPool}
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+     */
+    @Contract("_ -> new")
+    static <T> @NotNull ObjectPool<T> threadLocal(int maximumSize) {
+        checkPositive("maximumSize", maximumSize);
+        return new ThreadLocalObjectPool<>(maximumSize);
+    }
+
+    /**
+     * Creates an {@link ObjectPool} that is split into stripes to reduce contention.
+     * <p>
+     * Each thread uses the stripe chosen by its identity, so this pool can be shared by many threads including virtual threads.
+     *
+     * @param stripes              the number of stripes
+     * @param maximumSizePerStripe the maximum number of objects that each stripe keeps
+     * @param <T>                  the type of objects
+     * @return a new {@link ObjectPool}
+     * @throws IllegalArgumentException if {@code stripes} or {@code maximumSizePerStripe} is less than 1
+     */
+    @Contract("_, _ -> new")
+    static <T> @NotNull ObjectPool<T> striped(int stripes, int maximumSizePerStripe) {
+        checkPositive("stripes", stripes);
+        checkPositive("maximumSizePerStripe", maximumSizePerStripe);
+        return new StripedObjectPool<>(stripes, maximumSizePerStripe);
+    }
+
+    /**
+     * Acquires an object from this pool.
+     *
+     * @return the object removed from this pool, or {@code null} if this pool has no objects
+     */
+    @Nullable T acquire();
+
+    /**
+     * Releases the object to this pool.
+     * <p>
+     * If this pool is full, the object is discarded.
+     * The object must not be used after calling this method.
+     *
+     * @param object the object to release
+     */
+    void release(@NotNull T object);
+
+    /**
+     * Discards the objects in this pool.
+     * <p>
+     * The thread-local pool discards only the objects released by the calling thread,
+     * and removes its per-thread storage from the thread.
+     */
+    void clear();
+
+    private static void checkPositive(@NotNull String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+    }
+}
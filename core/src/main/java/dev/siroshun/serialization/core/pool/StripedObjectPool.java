@@ -0,0 +1,91 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.pool;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+final class StripedObjectPool<T> implements ObjectPool<T> {
+
+    private final Stripe[] stripes;
+
+    StripedObjectPool(int stripes, int maximumSizePerStripe) {
+        this.stripes = new Stripe[stripes];
+
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(maximumSizePerStripe);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable T acquire() {
+        var stripe = this.stripe();
+
+        synchronized (stripe) {
+            if (stripe.size == 0) {
+                return null;
+            }
+
+            int index = --stripe.size;
+            var object = stripe.objects[index];
+            stripe.objects[index] = null;
+            return (T) object;
+        }
+    }
+
+    @Override
+    public void release(@NotNull T object) {
+        Objects.requireNonNull(object);
+
+        var stripe = this.stripe();
+
+        synchronized (stripe) {
+            if (stripe.size < stripe.objects.length) {
+                stripe.objects[stripe.size++] = object;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (var stripe : this.stripes) {
+            synchronized (stripe) {
+                Arrays.fill(stripe.objects, 0, stripe.size, null);
+                stripe.size = 0;
+            }
+        }
+    }
+
+    private @NotNull Stripe stripe() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        return this.stripes[Math.floorMod(hash ^ (hash >>> 16), this.stripes.length)];
+    }
+
+    private static final class Stripe {
+
+        private final Object[] objects;
+        private int size;
+
+        private Stripe(int maximumSize) {
+            this.objects = new Object[maximumSize];
+        }
+    }
+}
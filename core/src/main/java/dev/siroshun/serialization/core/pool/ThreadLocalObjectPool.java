@@ -0,0 +1,54 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.pool;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+final class ThreadLocalObjectPool<T> implements ObjectPool<T> {
+
+    private final int maximumSize;
+    private final ThreadLocal<ArrayDeque<T>> objects = ThreadLocal.withInitial(ArrayDeque::new);
+
+    ThreadLocalObjectPool(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public @Nullable T acquire() {
+        return this.objects.get().pollLast();
+    }
+
+    @Override
+    public void release(@NotNull T object) {
+        Objects.requireNonNull(object);
+
+        var objects = this.objects.get();
+
+        if (objects.size() < this.maximumSize) {
+            objects.addLast(object);
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.objects.remove();
+    }
+}
@@ -19,17 +19,27 @@ package dev.siroshun.serialization.core.registry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
 
 abstract class AbstractRegistry<T> {
 
     private final StampedLock lock = new StampedLock();
-    private final Map<Class<?>, T> map = new LinkedHashMap<>();
-    private Map<Class<?>, T> cachedUnmodifiableMap = Map.of();
+    // This map is never modified; registering values replaces it with a new one, so it can be shared with other registries.
+    // Registrations are serialized by the lock, but readers only need to read this volatile field.
+    private volatile Map<Class<?>, T> map = PersistentClassMap.empty();
     private volatile boolean frozen;
 
+    AbstractRegistry() {
+    }
+
+    // Creates a frozen registry that holds the given map as-is, so the map must not be modified after calling this constructor.
+    AbstractRegistry(@NotNull Map<Class<?>, T> frozenMap) {
+        this.map = frozenMap;
+        this.frozen = true;
+    }
+
     protected final @Nullable T getValue(@NotNull Class<?> clazz) {
         var map = this.getMap();
         return map.get(clazz);
@@ -60,8 +70,7 @@ abstract class AbstractRegistry<T> {
             frozen = this.frozen;
 
             if (!frozen) {
-                this.map.put(clazz, value);
-                this.cachedUnmodifiableMap = Map.copyOf(this.map);
+                this.map = PersistentClassMap.<T>copyOf(this.map).with(clazz, value);
             }
         } finally {
             this.lock.unlockWrite(stamp);
@@ -72,16 +81,29 @@ abstract class AbstractRegistry<T> {
         }
     }
 
-    protected final void registerAll(@NotNull Map<Class<?>, T> map) {
+    // If this registry is empty, the given map is shared as-is, so it must not be modified after calling this method.
+    // In that case, values that do not match the filter are kept as well, and the caller must treat them as absent.
+    protected final void registerAll(@NotNull Map<Class<?>, T> map, @NotNull Predicate<? super T> filter) {
         long stamp = this.lock.writeLock();
         boolean frozen;
 
         try {
             frozen = this.frozen;
 
-            if (!frozen) {
-                this.map.putAll(map);
-                this.cachedUnmodifiableMap = Map.copyOf(this.map);
+            if (!frozen && !map.isEmpty()) {
+                if (this.map.isEmpty()) {
+                    this.map = map;
+                } else {
+                    var newMap = PersistentClassMap.<T>copyOf(this.map);
+
+                    for (var entry : map.entrySet()) {
+                        if (filter.test(entry.getValue())) {
+                            newMap = newMap.with(entry.getKey(), entry.getValue());
+                        }
+                    }
+
+                    this.map = newMap;
+                }
             }
         } finally {
             this.lock.unlockWrite(stamp);
@@ -93,25 +115,7 @@ abstract class AbstractRegistry<T> {
     }
 
     protected final @NotNull Map<Class<?>, T> getMap() {
-        {
-            long stamp = this.lock.tryOptimisticRead();
-            var map = this.cachedUnmodifiableMap;
-
-            if (this.lock.validate(stamp)) {
-                return map;
-            }
-        }
-
-        long stamp = this.lock.readLock();
-        Map<Class<?>, T> ret;
-
-        try {
-            ret = this.cachedUnmodifiableMap;
-        } finally {
-            this.lock.unlockRead(stamp);
-        }
-
-        return ret;
+        return this.map;
     }
 
     protected final void freezeRegistry() {
@@ -17,10 +17,13 @@
 package dev.siroshun.serialization.core.registry;
 
 import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.ReusingDeserializer;
+import dev.siroshun.serialization.core.pool.ObjectPool;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -76,6 +79,42 @@ public sealed interface DeserializerRegistry<S> permits DeserializerRegistryImpl
         return Optional.ofNullable(this.get(clazz));
     }
 
+    /**
+     * Gets the {@link ReusingDeserializer} associated with the specified class.
+     * <p>
+     * Since the registered {@link Deserializer} may produce a subtype of the class,
+     * the returning {@link ReusingDeserializer} only accepts the instances that it produced.
+     * Use {@link #getPooled(Class, ObjectPool)} to reuse instances of the class.
+     *
+     * @param clazz the class to get {@link ReusingDeserializer}
+     * @param <T>   a type of object after deserialization
+     * @return the {@link ReusingDeserializer} associated with the specified class,
+     * or {@code null} if the {@link Deserializer} is not registered or is not a {@link ReusingDeserializer}
+     */
+    default <T> @Nullable ReusingDeserializer<S, ? extends T> getReusing(@NotNull Class<T> clazz) {
+        return this.get(clazz) instanceof ReusingDeserializer<S, ? extends T> reusing ? reusing : null;
+    }
+
+    /**
+     * Gets the {@link Deserializer} that deserializes objects into instances acquired from the {@link ObjectPool}
+     * using the {@link ReusingDeserializer} associated with the specified class.
+     * <p>
+     * The {@link ReusingDeserializer} must accept any instance of the class as the instance to reuse.
+     *
+     * @param clazz the class to get {@link ReusingDeserializer}
+     * @param pool  the {@link ObjectPool} of the instances of the class
+     * @param <T>   a type of object after deserialization
+     * @return the {@link Deserializer} that deserializes objects into pooled instances,
+     * or {@code null} if the {@link Deserializer} is not registered or is not a {@link ReusingDeserializer}
+     * @see ReusingDeserializer#pooled(ObjectPool)
+     */
+    @SuppressWarnings("unchecked")
+    default <T> @Nullable Deserializer<S, T> getPooled(@NotNull Class<T> clazz, @NotNull ObjectPool<T> pool) {
+        Objects.requireNonNull(pool);
+        var reusing = (ReusingDeserializer<S, T>) this.getReusing(clazz);
+        return reusing != null ? reusing.pooled(pool) : null;
+    }
+
     /**
      * Registers {@link Deserializer}.
      *
@@ -115,4 +154,16 @@ public sealed interface DeserializerRegistry<S> permits DeserializerRegistryImpl
      */
     boolean isFrozen();
 
+    /**
+     * Creates a new {@link DeserializerRegistry} that has the same {@link Deserializer}s as this {@link DeserializerRegistry}.
+     * <p>
+     * The returning {@link DeserializerRegistry} is not frozen and shares the internal table with this registry,
+     * so this method does not copy the entries, and registering {@link Deserializer}s to the returning registry only copies the changed part of the table.
+     * The changes of both registries after calling this method are not reflected to each other.
+     *
+     * @return a new {@link DeserializerRegistry} that has the same {@link Deserializer}s as this {@link DeserializerRegistry}
+     */
+    @Contract(" -> new")
+    @NotNull DeserializerRegistry<S> fork();
+
 }
@@ -17,23 +17,27 @@
 package dev.siroshun.serialization.core.registry;
 
 import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.Serialization;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Objects;
 
-final class DeserializerRegistryImpl<S> extends AbstractRegistry<Deserializer<S, ?>> implements DeserializerRegistry<S> {
+// Deserializers are stored as Serializations so that the table can be shared with SerializationRegistry without copying.
+final class DeserializerRegistryImpl<S> extends AbstractRegistry<Serialization<?, S>> implements DeserializerRegistry<S> {
 
     static final EmptyDeserializerRegistry EMPTY = new EmptyDeserializerRegistry();
 
+    // true if the table may contain Serializations that also have Serializers
+    private volatile boolean shared;
+
     @SuppressWarnings("unchecked")
     @Override
     public @Nullable <T> Deserializer<S, T> get(@NotNull Class<T> clazz) {
-        return (Deserializer<S, T>) this.getValue(Objects.requireNonNull(clazz));
+        var serialization = this.getValue(Objects.requireNonNull(clazz));
+        return serialization != null && serialization.hasDeserializer() ? (Deserializer<S, T>) serialization.deserializer() : null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public @NotNull <T> DeserializerRegistry<S> register(@NotNull Class<T> clazz, @NotNull Deserializer<? super S, ? extends T> deserializer) {
         Objects.requireNonNull(clazz);
@@ -43,12 +47,11 @@ final class DeserializerRegistryImpl<S> extends AbstractRegistry<Deserializer<S,
             this.throwISE();
         }
 
-        this.registerValue(clazz, (Deserializer<S, T>) deserializer);
+        this.registerValue(clazz, Serialization.<T, S>onlyDeserializer(deserializer));
         return this;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull DeserializerRegistry<S> registerAll(@NotNull DeserializerRegistry<S> registry) {
         Objects.requireNonNull(registry);
 
@@ -60,19 +63,14 @@ final class DeserializerRegistryImpl<S> extends AbstractRegistry<Deserializer<S,
             return this;
         }
 
-        if (registry instanceof SerializationRegistryImpl<S>.ReferenceDeserializerRegistry other) {
-            var map = other.ref().getMap();
-            var newMap = new HashMap<Class<?>, Deserializer<S, ?>>(map.size(), 1.0f);
-
-            for (var entry : map.entrySet()) {
-                if (entry.getValue().hasDeserializer()) {
-                    newMap.put(entry.getKey(), (Deserializer<S, ?>) entry.getValue().deserializer());
-                }
-            }
-
-            this.registerAll(newMap);
+        if (registry instanceof SerializationRegistryImpl.ReferenceDeserializerRegistry<S> other) {
+            this.shared = true;
+            this.registerAll(SerializationRegistryImpl.getMapOf(other.ref()), Serialization::hasDeserializer);
         } else if (registry instanceof DeserializerRegistryImpl<S> impl) {
-            this.registerAll(impl.getMap());
+            if (impl.shared) {
+                this.shared = true;
+            }
+            this.registerAll(impl.getMap(), Serialization::hasDeserializer);
         } else {
             throw new IllegalArgumentException("Unsupported registry impl: " + registry.getClass().getName());
         }
@@ -86,7 +84,20 @@ final class DeserializerRegistryImpl<S> extends AbstractRegistry<Deserializer<S,
         return this;
     }
 
+    @Override
+    public @NotNull DeserializerRegistry<S> fork() {
+        return new DeserializerRegistryImpl<S>().registerAll(this);
+    }
+
+    boolean isShared() {
+        return this.shared;
+    }
+
     @SuppressWarnings("rawtypes")
     static final class EmptyDeserializerRegistry extends AbstractEmptyRegistry<Deserializer, DeserializerRegistry> implements DeserializerRegistry {
+        @Override
+        public @NotNull DeserializerRegistry fork() {
+            return new DeserializerRegistryImpl<>();
+        }
     }
 }
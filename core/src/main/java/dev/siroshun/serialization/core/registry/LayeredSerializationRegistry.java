@@ -0,0 +1,136 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.registry;
+
+import dev.siroshun.serialization.core.Serialization;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+
+final class LayeredSerializationRegistry<S> implements SerializationRegistry<S> {
+
+    private final SerializationRegistry<S> parent;
+    private final SerializationRegistry<S> child;
+
+    private final SerializationRegistryImpl.ReferenceSerializerRegistry<S> serializerRegistry = new SerializationRegistryImpl.ReferenceSerializerRegistry<>(this);
+    private final SerializationRegistryImpl.ReferenceDeserializerRegistry<S> deserializerRegistry = new SerializationRegistryImpl.ReferenceDeserializerRegistry<>(this);
+
+    private volatile Map<Class<?>, Serialization<?, S>> cachedMergedMap;
+
+    LayeredSerializationRegistry(@NotNull SerializationRegistry<S> parent, @NotNull SerializationRegistry<S> child) {
+        this.parent = parent;
+        this.child = child;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable <T> Serialization<T, S> get(@NotNull Class<T> clazz) {
+        Objects.requireNonNull(clazz);
+
+        var merged = this.getMergedMapIfFrozen();
+
+        if (merged != null) {
+            return (Serialization<T, S>) merged.get(clazz);
+        }
+
+        var serialization = this.child.get(clazz);
+        return serialization != null ? serialization : this.parent.get(clazz);
+    }
+
+    @Override
+    public @NotNull <T> SerializationRegistry<S> register(@NotNull Class<T> clazz, @NotNull Serialization<? super T, ? extends S> serialization) {
+        this.child.register(clazz, serialization);
+        return this;
+    }
+
+    @Override
+    public @NotNull SerializationRegistry<S> registerAll(@NotNull SerializationRegistry<S> registry) {
+        this.child.registerAll(registry);
+        return this;
+    }
+
+    @Override
+    public @NotNull SerializationRegistry<S> freeze() {
+        this.child.freeze();
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return this.child.isFrozen();
+    }
+
+    @Override
+    public @NotNull SerializationRegistry<S> fork() {
+        return new SerializationRegistryImpl<S>().registerAll(this);
+    }
+
+    @Override
+    public @NotNull SerializerRegistry<S> asSerializerRegistry() {
+        return this.serializerRegistry;
+    }
+
+    @Override
+    public @NotNull DeserializerRegistry<S> asDeserializerRegistry() {
+        return this.deserializerRegistry;
+    }
+
+    @NotNull SerializationRegistry<S> child() {
+        return this.child;
+    }
+
+    @NotNull Map<Class<?>, Serialization<?, S>> getMap() {
+        var merged = this.getMergedMapIfFrozen();
+        return merged != null ? merged : this.mergeMaps();
+    }
+
+    private @Nullable Map<Class<?>, Serialization<?, S>> getMergedMapIfFrozen() {
+        var merged = this.cachedMergedMap;
+
+        if (merged == null && this.isFullyFrozen()) {
+            // Both layers can no longer be changed, so the merged result can be reused from now on.
+            merged = this.mergeMaps();
+            this.cachedMergedMap = merged;
+        }
+
+        return merged;
+    }
+
+    private boolean isFullyFrozen() {
+        return isFullyFrozen(this.parent) && isFullyFrozen(this.child);
+    }
+
+    private static boolean isFullyFrozen(@NotNull SerializationRegistry<?> registry) {
+        return registry instanceof LayeredSerializationRegistry<?> layered ? layered.isFullyFrozen() : registry.isFrozen();
+    }
+
+    private @NotNull Map<Class<?>, Serialization<?, S>> mergeMaps() {
+        var parentMap = SerializationRegistryImpl.getMapOf(this.parent);
+        var childMap = SerializationRegistryImpl.getMapOf(this.child);
+
+        if (childMap.isEmpty()) {
+            return parentMap;
+        } else if (parentMap.isEmpty()) {
+            return childMap;
+        }
+
+        // Shares the trie of the parent if possible.
+        return PersistentClassMap.<Serialization<?, S>>copyOf(parentMap).withAll(childMap);
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.registry;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable hash array mapped trie keyed by {@link Class}.
+ * <p>
+ * {@link #with(Class, Object)} copies only the path to the changed entry, so the returned map shares the rest of the trie with this map.
+ *
+ * @param <V> the type of values
+ */
+final class PersistentClassMap<V> extends AbstractMap<Class<?>, V> {
+
+    private static final PersistentClassMap<?> EMPTY = new PersistentClassMap<>(BitmapNode.EMPTY, 0);
+    private static final Object NOT_FOUND = new Object();
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    // 32-bit hashes are consumed in 7 levels (6 * 5 bits + 2 bits)
+    private static final int MAX_DEPTH = 7;
+
+    @SuppressWarnings("unchecked")
+    static <V> @NotNull PersistentClassMap<V> empty() {
+        return (PersistentClassMap<V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> @NotNull PersistentClassMap<V> copyOf(@NotNull Map<Class<?>, ? extends V> map) {
+        if (map instanceof PersistentClassMap<?> persistent) {
+            return (PersistentClassMap<V>) persistent;
+        }
+
+        return build(map);
+    }
+
+    // Builds the trie in a single pass: entries are partitioned level by level, so each node is allocated exactly once
+    // instead of copying the path for every entry.
+    static <V> @NotNull PersistentClassMap<V> build(@NotNull Map<Class<?>, ? extends V> map) {
+        int size = map.size();
+
+        if (size == 0) {
+            return empty();
+        }
+
+        var keys = new Object[size];
+        var values = new Object[size];
+        var hashes = new int[size];
+        int i = 0;
+
+        for (var entry : map.entrySet()) {
+            keys[i] = Objects.requireNonNull(entry.getKey());
+            values[i] = Objects.requireNonNull(entry.getValue());
+            hashes[i] = keys[i].hashCode();
+            i++;
+        }
+
+        var counter = new int[1];
+        var root = buildNode(keys, values, hashes, 0, size, 0, counter);
+        return new PersistentClassMap<>(root instanceof Node node ? node : wrapLeaf(keys, values, hashes, size), counter[0]);
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PersistentClassMap(@NotNull Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable V get(Object key) {
+        if (!(key instanceof Class<?>)) {
+            return null;
+        }
+
+        var value = this.root.find(key, key.hashCode(), 0);
+        return value != NOT_FOUND ? (V) value : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Class<?> && this.root.find(key, key.hashCode(), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public @NotNull Set<Entry<Class<?>, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<Class<?>, V>> iterator() {
+                return new EntryIterator<>(PersistentClassMap.this.root);
+            }
+
+            @Override
+            public int size() {
+                return PersistentClassMap.this.size;
+            }
+        };
+    }
+
+    @NotNull PersistentClassMap<V> with(@NotNull Class<?> key, @NotNull V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        int hash = key.hashCode();
+        var newRoot = this.root.put(key, value, hash, 0);
+
+        if (newRoot == this.root) {
+            return this;
+        }
+
+        boolean replaced = this.root.find(key, hash, 0) != NOT_FOUND;
+        return new PersistentClassMap<>(newRoot, replaced ? this.size : this.size + 1);
+    }
+
+    @NotNull PersistentClassMap<V> withAll(@NotNull Map<Class<?>, ? extends V> map) {
+        var result = this;
+
+        for (var entry : map.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    // Returns a Node, or null if all entries in the range have the same key (the caller stores it as a leaf).
+    private static @Nullable Node buildNode(@NotNull Object[] keys, @NotNull Object[] values, int @NotNull [] hashes,
+                                            int from, int to, int shift, int @NotNull [] counter) {
+        if (isSingleKey(keys, from, to)) {
+            counter[0]++;
+            return null;
+        }
+
+        if (isSingleHash(hashes, from, to)) {
+            return buildCollisionNode(keys, values, hashes[from], from, to, counter);
+        }
+
+        // stable counting sort by the index at this level, so later entries still override earlier ones
+        var counts = new int[MASK + 2];
+
+        for (int i = from; i < to; i++) {
+            counts[index(hashes[i], shift) + 1]++;
+        }
+
+        int bitmap = 0;
+        int slots = 0;
+
+        for (int b = 0; b <= MASK; b++) {
+            if (counts[b + 1] != 0) {
+                bitmap |= 1 << b;
+                slots++;
+            }
+            counts[b + 1] += counts[b];
+        }
+
+        int length = to - from;
+        var sortedKeys = new Object[length];
+        var sortedValues = new Object[length];
+        var sortedHashes = new int[length];
+        var positions = counts.clone();
+
+        for (int i = from; i < to; i++) {
+            int p = positions[index(hashes[i], shift)]++;
+            sortedKeys[p] = keys[i];
+            sortedValues[p] = values[i];
+            sortedHashes[p] = hashes[i];
+        }
+
+        var array = new Object[slots * 2];
+        int slot = 0;
+
+        for (int b = 0; b <= MASK; b++) {
+            int start = counts[b];
+            int end = counts[b + 1];
+
+            if (start == end) {
+                continue;
+            }
+
+            var child = buildNode(sortedKeys, sortedValues, sortedHashes, start, end, shift + BITS, counter);
+
+            if (child == null) {
+                array[slot] = sortedKeys[end - 1];
+                array[slot + 1] = sortedValues[end - 1];
+            } else {
+                array[slot + 1] = child;
+            }
+
+            slot += 2;
+        }
+
+        return new BitmapNode(bitmap, array);
+    }
+
+    private static @NotNull CollisionNode buildCollisionNode(@NotNull Object[] keys, @NotNull Object[] values, int hash,
+                                                             int from, int to, int @NotNull [] counter) {
+        var array = new Object[(to - from) * 2];
+        int length = 0;
+
+        outer:
+        for (int i = from; i < to; i++) {
+            for (int j = 0; j < length; j += 2) {
+                if (array[j] == keys[i]) {
+                    array[j + 1] = values[i];
+                    continue outer;
+                }
+            }
+
+            array[length] = keys[i];
+            array[length + 1] = values[i];
+            length += 2;
+        }
+
+        counter[0] += length / 2;
+        return new CollisionNode(hash, length == array.length ? array : Arrays.copyOf(array, length));
+    }
+
+    private static @NotNull Node wrapLeaf(@NotNull Object[] keys, @NotNull Object[] values, int @NotNull [] hashes, int size) {
+        return BitmapNode.EMPTY.put(keys[size - 1], values[size - 1], hashes[size - 1], 0);
+    }
+
+    private static boolean isSingleKey(@NotNull Object[] keys, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (keys[i] != keys[from]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSingleHash(int @NotNull [] hashes, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (hashes[i] != hashes[from]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int index(int hash, int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static Node createNode(int shift, @NotNull Object key1, @NotNull Object value1, int hash2, @NotNull Object key2, @NotNull Object value2) {
+        int hash1 = key1.hashCode();
+
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[]{key1, value1, key2, value2});
+        }
+
+        return BitmapNode.EMPTY.put(key1, value1, hash1, shift).put(key2, value2, hash2, shift);
+    }
+
+    private sealed interface Node permits BitmapNode, CollisionNode {
+
+        @NotNull Object find(@NotNull Object key, int hash, int shift);
+
+        @NotNull Node put(@NotNull Object key, @NotNull Object value, int hash, int shift);
+
+        // Pairs of key and value; a null key means that the value is a child node.
+        @NotNull Object[] array();
+    }
+
+    private record BitmapNode(int bitmap, @NotNull Object[] array) implements Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        @Override
+        public @NotNull Object find(@NotNull Object key, int hash, int shift) {
+            int bit = 1 << index(hash, shift);
+
+            if ((this.bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+
+            int i = 2 * Integer.bitCount(this.bitmap & (bit - 1));
+            var storedKey = this.array[i];
+            var storedValue = this.array[i + 1];
+
+            if (storedKey == null) {
+                return ((Node) storedValue).find(key, hash, shift + BITS);
+            }
+
+            return storedKey == key ? storedValue : NOT_FOUND;
+        }
+
+        @Override
+        public @NotNull Node put(@NotNull Object key, @NotNull Object value, int hash, int shift) {
+            int bit = 1 << index(hash, shift);
+            int i = 2 * Integer.bitCount(this.bitmap & (bit - 1));
+
+            if ((this.bitmap & bit) == 0) {
+                var newArray = new Object[this.array.length + 2];
+                System.arraycopy(this.array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = value;
+                System.arraycopy(this.array, i, newArray, i + 2, this.array.length - i);
+                return new BitmapNode(this.bitmap | bit, newArray);
+            }
+
+            var storedKey = this.array[i];
+            var storedValue = this.array[i + 1];
+            Object newValue;
+            Object newKey = storedKey;
+
+            if (storedKey == null) {
+                newValue = ((Node) storedValue).put(key, value, hash, shift + BITS);
+            } else if (storedKey == key) {
+                newValue = value;
+            } else {
+                newKey = null;
+                newValue = createNode(shift + BITS, storedKey, storedValue, hash, key, value);
+            }
+
+            if (newValue == storedValue) {
+                return this;
+            }
+
+            var newArray = this.array.clone();
+            newArray[i] = newKey;
+            newArray[i + 1] = newValue;
+            return new BitmapNode(this.bitmap, newArray);
+        }
+    }
+
+    private record CollisionNode(int hash, @NotNull Object[] array) implements Node {
+
+        @Override
+        public @NotNull Object find(@NotNull Object key, int hash, int shift) {
+            if (hash != this.hash) {
+                return NOT_FOUND;
+            }
+
+            for (int i = 0; i < this.array.length; i += 2) {
+                if (this.array[i] == key) {
+                    return this.array[i + 1];
+                }
+            }
+
+            return NOT_FOUND;
+        }
+
+        @Override
+        public @NotNull Node put(@NotNull Object key, @NotNull Object value, int hash, int shift) {
+            if (hash != this.hash) {
+                var node = new BitmapNode(1 << index(this.hash, shift), new Object[]{null, this});
+                return node.put(key, value, hash, shift);
+            }
+
+            for (int i = 0; i < this.array.length; i += 2) {
+                if (this.array[i] == key) {
+                    if (this.array[i + 1] == value) {
+                        return this;
+                    }
+
+                    var newArray = this.array.clone();
+                    newArray[i + 1] = value;
+                    return new CollisionNode(hash, newArray);
+                }
+            }
+
+            var newArray = new Object[this.array.length + 2];
+            System.arraycopy(this.array, 0, newArray, 0, this.array.length);
+            newArray[this.array.length] = key;
+            newArray[this.array.length + 1] = value;
+            return new CollisionNode(hash, newArray);
+        }
+    }
+
+    private static final class EntryIterator<V> implements Iterator<Entry<Class<?>, V>> {
+
+        private final Object[][] arrays = new Object[MAX_DEPTH + 1][];
+        private final int[] indices = new int[MAX_DEPTH + 1];
+        private int depth;
+        private Entry<Class<?>, V> next;
+
+        private EntryIterator(@NotNull Node root) {
+            this.arrays[0] = root.array();
+            this.advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Entry<Class<?>, V> next() {
+            var entry = this.next;
+
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+
+            this.advance();
+            return entry;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            while (this.depth >= 0) {
+                var array = this.arrays[this.depth];
+                int i = this.indices[this.depth];
+
+                if (array.length <= i) {
+                    this.depth--;
+                    continue;
+                }
+
+                this.indices[this.depth] = i + 2;
+                var key = array[i];
+                var value = array[i + 1];
+
+                if (key != null) {
+                    this.next = Map.entry((Class<?>) key, (V) value);
+                    return;
+                }
+
+                this.depth++;
+                this.arrays[this.depth] = ((Node) value).array();
+                this.indices[this.depth] = 0;
+            }
+
+            this.next = null;
+        }
+    }
+}
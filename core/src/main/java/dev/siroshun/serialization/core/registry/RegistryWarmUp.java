@@ -0,0 +1,61 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.registry;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.Serialization;
+import dev.siroshun.serialization.core.Serializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+
+final class RegistryWarmUp {
+
+    @SuppressWarnings("unchecked")
+    static <S> void exercise(@NotNull SerializationRegistry<S> registry, @NotNull Map<Class<?>, ? extends Collection<?>> samples, int iterations) {
+        for (var entry : samples.entrySet()) {
+            var clazz = entry.getKey();
+            var serialization = (Serialization<Object, S>) registry.get(clazz);
+
+            if (serialization == null) {
+                throw new IllegalArgumentException("No serialization is registered for " + clazz.getName());
+            }
+
+            if (!serialization.hasSerializer()) {
+                continue;
+            }
+
+            var serializer = (Serializer<Object, S>) serialization.serializer();
+            var deserializer = serialization.hasDeserializer() ? (Deserializer<S, Object>) serialization.deserializer() : null;
+
+            for (int i = 0; i < iterations; i++) {
+                for (var sample : entry.getValue()) {
+                    var serialized = serializer.serialize(sample);
+
+                    if (deserializer != null && serialized != null) {
+                        deserializer.deserialize(serialized);
+                    }
+                }
+            }
+        }
+    }
+
+    private RegistryWarmUp() {
+        throw new UnsupportedOperationException();
+    }
+}
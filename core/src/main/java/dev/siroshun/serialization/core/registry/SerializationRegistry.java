@@ -23,7 +23,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * A registry that manages {@link Serialization}s.
@@ -32,7 +37,7 @@ import java.util.Optional;
  *
  * @param <S> a type of objects after serializing
  */
-public sealed interface SerializationRegistry<S> permits SerializationRegistryImpl, SerializationRegistryImpl.EmptySerializationRegistry {
+public sealed interface SerializationRegistry<S> permits LayeredSerializationRegistry, SerializationRegistryImpl, SerializationRegistryImpl.EmptySerializationRegistry {
 
     /**
      * Creates a new {@link SerializationRegistry}.
@@ -45,6 +50,26 @@ public sealed interface SerializationRegistry<S> permits SerializationRegistryIm
         return new SerializationRegistryImpl<>();
     }
 
+    /**
+     * Creates a frozen {@link SerializationRegistry} that has the specified {@link Serialization}s.
+     * <p>
+     * Unlike registering {@link Serialization}s one by one, the internal table is built from the map in a single pass,
+     * and no intermediate tables are created.
+     * This is suitable for large registries that are built once, typically in a static initializer
+     * so that the result can be captured by class data sharing or ahead-of-time caches.
+     *
+     * @param serializations the map of classes and {@link Serialization}s
+     * @param <S>            a type of objects after serializing
+     * @return a new frozen {@link SerializationRegistry}
+     */
+    @SuppressWarnings("unchecked")
+    @Contract("_ -> new")
+    static <S> @NotNull SerializationRegistry<S> frozen(@NotNull Map<Class<?>, ? extends Serialization<?, ? extends S>> serializations) {
+        Objects.requireNonNull(serializations);
+        var map = PersistentClassMap.<Serialization<?, S>>build((Map<Class<?>, ? extends Serialization<?, S>>) serializations);
+        return new SerializationRegistryImpl<>(map);
+    }
+
     /**
      * Returns an empty {@link SerializationRegistry}.
      * <p>
@@ -58,6 +83,27 @@ public sealed interface SerializationRegistry<S> permits SerializationRegistryIm
         return SerializationRegistryImpl.EMPTY;
     }
 
+    /**
+     * Creates a layered {@link SerializationRegistry} that looks up {@link Serialization}s from the child first, and then from the parent.
+     * <p>
+     * The returning {@link SerializationRegistry} does not copy the entries of the given registries.
+     * {@link #register(Class, Serialization)}, {@link #registerAll(SerializationRegistry)} and {@link #freeze()} are delegated to the child,
+     * so the returning {@link SerializationRegistry} is frozen when the child is frozen.
+     * <p>
+     * Once both registries are frozen, the merged lookup result is computed once and reused.
+     *
+     * @param parent the {@link SerializationRegistry} to look up when the child does not have the {@link Serialization}
+     * @param child  the {@link SerializationRegistry} to look up first
+     * @param <S>    a type of objects after serializing
+     * @return a new layered {@link SerializationRegistry}
+     */
+    @Contract("_, _ -> new")
+    static <S> @NotNull SerializationRegistry<S> layered(@NotNull SerializationRegistry<S> parent, @NotNull SerializationRegistry<S> child) {
+        Objects.requireNonNull(parent);
+        Objects.requireNonNull(child);
+        return new LayeredSerializationRegistry<>(parent, child);
+    }
+
     /**
      * Gets the {@link Serialization} associated with the specified class.
      *
@@ -117,6 +163,47 @@ public sealed interface SerializationRegistry<S> permits SerializationRegistryIm
      */
     boolean isFrozen();
 
+    /**
+     * Warms up this {@link SerializationRegistry} by exercising the registered {@link Serialization}s on the {@link Executor}.
+     * <p>
+     * Each sample is serialized by the {@link Serializer} registered for its class,
+     * and the result is deserialized by the {@link Deserializer} if present.
+     * This is repeated {@code iterations} times so that the codecs are loaded, linked, and compiled by JIT before serving requests.
+     * The lookups also compute the tables that are otherwise computed on the first lookup,
+     * such as the merged table of {@link #layered(SerializationRegistry, SerializationRegistry)}.
+     * <p>
+     * The returning {@link CompletableFuture} completes exceptionally
+     * if a class in {@code samples} is not registered, or a {@link Serializer} or {@link Deserializer} throws an exception.
+     *
+     * @param samples    the map of classes and their sample objects
+     * @param iterations the number of times to (de)serialize each sample
+     * @param executor   the {@link Executor} to run the warm-up on
+     * @return the {@link CompletableFuture} that completes when the warm-up is finished
+     * @throws IllegalArgumentException if {@code iterations} is negative
+     */
+    default @NotNull CompletableFuture<Void> warmUp(@NotNull Map<Class<?>, ? extends Collection<?>> samples, int iterations, @NotNull Executor executor) {
+        Objects.requireNonNull(samples);
+        Objects.requireNonNull(executor);
+
+        if (iterations < 0) {
+            throw new IllegalArgumentException("iterations cannot be negative: " + iterations);
+        }
+
+        return CompletableFuture.runAsync(() -> RegistryWarmUp.exercise(this, samples, iterations), executor);
+    }
+
+    /**
+     * Creates a new {@link SerializationRegistry} that has the same {@link Serialization}s as this {@link SerializationRegistry}.
+     * <p>
+     * The returning {@link SerializationRegistry} is not frozen and shares the internal table with this registry,
+     * so this method does not copy the entries, and registering {@link Serialization}s to the returning registry only copies the changed part of the table.
+     * The changes of both registries after calling this method are not reflected to each other.
+     *
+     * @return a new {@link SerializationRegistry} that has the same {@link Serialization}s as this {@link SerializationRegistry}
+     */
+    @Contract(" -> new")
+    @NotNull SerializationRegistry<S> fork();
+
     /**
      * Gets the {@link SerializerRegistry} that refers this {@link SerializationRegistry}.
      * <p>
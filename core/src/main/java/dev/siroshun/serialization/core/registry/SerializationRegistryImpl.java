@@ -30,8 +30,15 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
 
     static final EmptySerializationRegistry EMPTY = new EmptySerializationRegistry();
 
-    private final ReferenceSerializerRegistry serializerRegistry = new ReferenceSerializerRegistry();
-    private final ReferenceDeserializerRegistry deserializerRegistry = new ReferenceDeserializerRegistry();
+    private final ReferenceSerializerRegistry<S> serializerRegistry = new ReferenceSerializerRegistry<>(this);
+    private final ReferenceDeserializerRegistry<S> deserializerRegistry = new ReferenceDeserializerRegistry<>(this);
+
+    SerializationRegistryImpl() {
+    }
+
+    SerializationRegistryImpl(@NotNull Map<Class<?>, Serialization<?, S>> frozenMap) {
+        super(frozenMap);
+    }
 
     @SuppressWarnings("unchecked")
     @Override
@@ -65,7 +72,7 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             return this;
         }
 
-        this.registerAll(((SerializationRegistryImpl<S>) registry).getMap());
+        this.registerAll(getMapOf(registry), serialization -> true);
         return this;
     }
 
@@ -75,6 +82,11 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
         return this;
     }
 
+    @Override
+    public @NotNull SerializationRegistry<S> fork() {
+        return new SerializationRegistryImpl<S>().registerAll(this);
+    }
+
     @Override
     public @NotNull SerializerRegistry<S> asSerializerRegistry() {
         return this.serializerRegistry;
@@ -85,7 +97,37 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
         return this.deserializerRegistry;
     }
 
-    final class ReferenceSerializerRegistry implements SerializerRegistry<S> {
+    static @NotNull <S> Map<Class<?>, Serialization<?, S>> getMapOf(@NotNull SerializationRegistry<S> registry) {
+        if (registry instanceof SerializationRegistryImpl<S> impl) {
+            return impl.getMap();
+        } else if (registry instanceof LayeredSerializationRegistry<S> layered) {
+            return layered.getMap();
+        } else if (registry instanceof EmptySerializationRegistry) {
+            return Map.of();
+        } else {
+            throw new IllegalArgumentException("Unsupported registry impl: " + registry.getClass().getName());
+        }
+    }
+
+    static <S> void registerEntries(@NotNull SerializationRegistry<S> registry, @NotNull Map<Class<?>, Serialization<?, S>> map) {
+        if (registry instanceof SerializationRegistryImpl<S> impl) {
+            impl.registerAll(map, serialization -> true);
+        } else if (registry instanceof LayeredSerializationRegistry<S> layered) {
+            registerEntries(layered.child(), map);
+        } else if (registry instanceof EmptySerializationRegistry) {
+            throw new IllegalStateException("This registry is frozen.");
+        } else {
+            throw new IllegalArgumentException("Unsupported registry impl: " + registry.getClass().getName());
+        }
+    }
+
+    static final class ReferenceSerializerRegistry<S> implements SerializerRegistry<S> {
+
+        private final SerializationRegistry<S> ref;
+
+        ReferenceSerializerRegistry(@NotNull SerializationRegistry<S> ref) {
+            this.ref = ref;
+        }
 
         @Override
         @SuppressWarnings("unchecked")
@@ -100,7 +142,7 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             Objects.requireNonNull(serializer);
 
             if (this.ref().isFrozen()) {
-                this.ref().throwISE();
+                throw new IllegalStateException("This registry is frozen.");
             }
 
             var existing = this.ref().get(clazz);
@@ -120,32 +162,46 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             Objects.requireNonNull(registry);
 
             if (this.ref().isFrozen()) {
-                this.ref().throwISE();
+                throw new IllegalStateException("This registry is frozen.");
             }
 
             if (registry instanceof SerializerRegistryImpl.EmptySerializerRegistry) {
                 return this;
             }
 
-            if (registry instanceof ReferenceSerializerRegistry other) {
+            if (registry instanceof ReferenceSerializerRegistry<S> other) {
                 this.ref().registerAll(other.ref());
             } else if (registry instanceof SerializerRegistryImpl<S> impl) {
                 var map = impl.getMap();
+
+                if (!impl.isShared() && getMapOf(this.ref()).isEmpty()) {
+                    // The table only contains Serializers, so it can be shared as-is.
+                    registerEntries(this.ref(), map);
+                    return this;
+                }
+
                 var newMap = new HashMap<Class<?>, Serialization<?, S>>(map.size(), 1.0f);
 
-                for (Map.Entry<Class<?>, Serializer<?, S>> entry : map.entrySet()) {
+                for (var entry : map.entrySet()) {
                     var clazz = entry.getKey();
-                    var serializer = entry.getValue();
+                    var serialization = entry.getValue();
+
+                    if (!serialization.hasSerializer()) {
+                        continue;
+                    }
+
                     var existing = this.ref().get(clazz);
 
                     if (existing != null && existing.hasDeserializer()) {
-                        newMap.put(clazz, Serialization.create(serializer, (Deserializer) existing.deserializer()));
+                        newMap.put(clazz, Serialization.create((Serializer) serialization.serializer(), (Deserializer) existing.deserializer()));
+                    } else if (serialization.hasDeserializer()) {
+                        newMap.put(clazz, Serialization.onlySerializer(serialization.serializer()));
                     } else {
-                        newMap.put(clazz, Serialization.onlySerializer(serializer));
+                        newMap.put(clazz, serialization);
                     }
                 }
 
-                this.ref().registerAll(newMap);
+                registerEntries(this.ref(), newMap);
             } else {
                 throw new IllegalArgumentException("Unsupported registry impl: " + registry.getClass().getName());
             }
@@ -164,12 +220,23 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             return this.ref().isFrozen();
         }
 
-        @NotNull SerializationRegistryImpl<S> ref() {
-            return SerializationRegistryImpl.this;
+        @Override
+        public @NotNull SerializerRegistry<S> fork() {
+            return new SerializerRegistryImpl<S>().registerAll(this);
+        }
+
+        @NotNull SerializationRegistry<S> ref() {
+            return this.ref;
         }
     }
 
-    final class ReferenceDeserializerRegistry implements DeserializerRegistry<S> {
+    static final class ReferenceDeserializerRegistry<S> implements DeserializerRegistry<S> {
+
+        private final SerializationRegistry<S> ref;
+
+        ReferenceDeserializerRegistry(@NotNull SerializationRegistry<S> ref) {
+            this.ref = ref;
+        }
 
         @Override
         @SuppressWarnings("unchecked")
@@ -184,7 +251,7 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             Objects.requireNonNull(deserializer);
 
             if (this.ref().isFrozen()) {
-                this.ref().throwISE();
+                throw new IllegalStateException("This registry is frozen.");
             }
 
             var existing = this.ref().get(clazz);
@@ -204,32 +271,46 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             Objects.requireNonNull(registry);
 
             if (this.ref().isFrozen()) {
-                this.ref().throwISE();
+                throw new IllegalStateException("This registry is frozen.");
             }
 
             if (registry instanceof DeserializerRegistryImpl.EmptyDeserializerRegistry) {
                 return this;
             }
 
-            if (registry instanceof ReferenceDeserializerRegistry other) {
+            if (registry instanceof ReferenceDeserializerRegistry<S> other) {
                 this.ref().registerAll(other.ref());
             } else if (registry instanceof DeserializerRegistryImpl<S> impl) {
                 var map = impl.getMap();
+
+                if (!impl.isShared() && getMapOf(this.ref()).isEmpty()) {
+                    // The table only contains Deserializers, so it can be shared as-is.
+                    registerEntries(this.ref(), map);
+                    return this;
+                }
+
                 var newMap = new HashMap<Class<?>, Serialization<?, S>>(map.size(), 1.0f);
 
                 for (var entry : map.entrySet()) {
                     var clazz = entry.getKey();
-                    var deserializer = entry.getValue();
+                    var serialization = entry.getValue();
+
+                    if (!serialization.hasDeserializer()) {
+                        continue;
+                    }
+
                     var existing = this.ref().get(clazz);
 
-                    if (existing != null && existing.hasDeserializer()) {
-                        newMap.put(clazz, Serialization.create((Serializer) existing.serializer(), deserializer));
+                    if (existing != null && existing.hasSerializer()) {
+                        newMap.put(clazz, Serialization.create((Serializer) existing.serializer(), (Deserializer) serialization.deserializer()));
+                    } else if (serialization.hasSerializer()) {
+                        newMap.put(clazz, Serialization.onlyDeserializer(serialization.deserializer()));
                     } else {
-                        newMap.put(clazz, Serialization.onlyDeserializer(deserializer));
+                        newMap.put(clazz, serialization);
                     }
                 }
 
-                this.ref().registerAll(newMap);
+                registerEntries(this.ref(), newMap);
             } else {
                 throw new IllegalArgumentException("Unsupported registry impl: " + registry.getClass().getName());
             }
@@ -248,13 +329,23 @@ final class SerializationRegistryImpl<S> extends AbstractRegistry<Serialization<
             return this.ref().isFrozen();
         }
 
-        @NotNull SerializationRegistryImpl<S> ref() {
-            return SerializationRegistryImpl.this;
+        @Override
+        public @NotNull DeserializerRegistry<S> fork() {
+            return new DeserializerRegistryImpl<S>().registerAll(this);
+        }
+
+        @NotNull SerializationRegistry<S> ref() {
+            return this.ref;
         }
     }
 
     @SuppressWarnings("rawtypes")
     static final class EmptySerializationRegistry extends AbstractEmptyRegistry<Serialization, SerializationRegistry> implements SerializationRegistry {
+        @Override
+        public @NotNull SerializationRegistry fork() {
+            return new SerializationRegistryImpl<>();
+        }
+
         @Override
         public @NotNull SerializerRegistry asSerializerRegistry() {
             return SerializerRegistryImpl.EMPTY;
@@ -115,4 +115,16 @@ public sealed interface SerializerRegistry<S> permits SerializationRegistryImpl.
      */
     boolean isFrozen();
 
+    /**
+     * Creates a new {@link SerializerRegistry} that has the same {@link Serializer}s as this {@link SerializerRegistry}.
+     * <p>
+     * The returning {@link SerializerRegistry} is not frozen and shares the internal table with this registry,
+     * so this method does not copy the entries, and registering {@link Serializer}s to the returning registry only copies the changed part of the table.
+     * The changes of both registries after calling this method are not reflected to each other.
+     *
+     * @return a new {@link SerializerRegistry} that has the same {@link Serializer}s as this {@link SerializerRegistry}
+     */
+    @Contract(" -> new")
+    @NotNull SerializerRegistry<S> fork();
+
 }
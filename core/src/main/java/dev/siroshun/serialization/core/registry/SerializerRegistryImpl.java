@@ -16,24 +16,28 @@
 
 package dev.siroshun.serialization.core.registry;
 
+import dev.siroshun.serialization.core.Serialization;
 import dev.siroshun.serialization.core.Serializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Objects;
 
-final class SerializerRegistryImpl<S> extends AbstractRegistry<Serializer<?, S>> implements SerializerRegistry<S> {
+// Serializers are stored as Serializations so that the table can be shared with SerializationRegistry without copying.
+final class SerializerRegistryImpl<S> extends AbstractRegistry<Serialization<?, S>> implements SerializerRegistry<S> {
 
     static final EmptySerializerRegistry EMPTY = new EmptySerializerRegistry();
 
+    // true if the table may contain Serializations that also have Deserializers
+    private volatile boolean shared;
+
     @SuppressWarnings("unchecked")
     @Override
     public @Nullable <T> Serializer<T, S> get(@NotNull Class<T> clazz) {
-        return (Serializer<T, S>) this.getValue(Objects.requireNonNull(clazz));
+        var serialization = this.getValue(Objects.requireNonNull(clazz));
+        return serialization != null && serialization.hasSerializer() ? (Serializer<T, S>) serialization.serializer() : null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public @NotNull <T> SerializerRegistry<S> register(@NotNull Class<T> clazz, @NotNull Serializer<? super T, ? extends S> serializer) {
         Objects.requireNonNull(clazz);
@@ -43,12 +47,11 @@ final class SerializerRegistryImpl<S> extends AbstractRegistry<Serializer<?, S>>
             this.throwISE();
         }
 
-        this.registerValue(clazz, (Serializer<T, S>) serializer);
+        this.registerValue(clazz, Serialization.<T, S>onlySerializer(serializer));
         return this;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull SerializerRegistry<S> registerAll(@NotNull SerializerRegistry<S> registry) {
         Objects.requireNonNull(registry);
 
@@ -60,19 +63,14 @@ final class SerializerRegistryImpl<S> extends AbstractRegistry<Serializer<?, S>>
             return this;
         }
 
-        if (registry instanceof SerializationRegistryImpl<S>.ReferenceSerializerRegistry other) {
-            var map = other.ref().getMap();
-            var newMap = new HashMap<Class<?>, Serializer<?, S>>(map.size(), 1.0f);
-
-            for (var entry : map.entrySet()) {
-                if (entry.getValue().hasSerializer()) {
-                    newMap.put(entry.getKey(), (Serializer<?, S>) entry.getValue().serializer());
-                }
-            }
-
-            this.registerAll(newMap);
+        if (registry instanceof SerializationRegistryImpl.ReferenceSerializerRegistry<S> other) {
+            this.shared = true;
+            this.registerAll(SerializationRegistryImpl.getMapOf(other.ref()), Serialization::hasSerializer);
         } else if (registry instanceof SerializerRegistryImpl<S> impl) {
-            this.registerAll(impl.getMap());
+            if (impl.shared) {
+                this.shared = true;
+            }
+            this.registerAll(impl.getMap(), Serialization::hasSerializer);
         } else {
             throw new IllegalArgumentException("Unsupported registry impl: " + registry.getClass().getName());
         }
@@ -86,7 +84,20 @@ final class SerializerRegistryImpl<S> extends AbstractRegistry<Serializer<?, S>>
         return this;
     }
 
+    @Override
+    public @NotNull SerializerRegistry<S> fork() {
+        return new SerializerRegistryImpl<S>().registerAll(this);
+    }
+
+    boolean isShared() {
+        return this.shared;
+    }
+
     @SuppressWarnings("rawtypes")
     static final class EmptySerializerRegistry extends AbstractEmptyRegistry<Serializer, SerializerRegistry> implements SerializerRegistry {
+        @Override
+        public @NotNull SerializerRegistry fork() {
+            return new SerializerRegistryImpl<>();
+        }
     }
 }
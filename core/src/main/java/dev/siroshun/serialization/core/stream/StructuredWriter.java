@@ -0,0 +1,80 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A writer that receives structured values as a sequence of events.
+ * <p>
+ * Objects are written as {@link #beginObject()}, pairs of {@link #name(String)} and a value, and {@link #endObject()}.
+ * Arrays are written as {@link #beginArray()}, values, and {@link #endArray()}.
+ * <p>
+ * This interface is implemented by formats (e.g. YAML, TOML, JSON) to write values without building intermediate object trees.
+ */
+public interface StructuredWriter {
+
+    /**
+     * Begins a new object.
+     */
+    void beginObject();
+
+    /**
+     * Ends the current object.
+     */
+    void endObject();
+
+    /**
+     * Begins a new array.
+     */
+    void beginArray();
+
+    /**
+     * Ends the current array.
+     */
+    void endArray();
+
+    /**
+     * Writes the name of the next value in the current object.
+     *
+     * @param name the name
+     */
+    void name(@NotNull String name);
+
+    /**
+     * Writes a scalar value.
+     * <p>
+     * The value is {@code null}, {@link String}, {@link Boolean}, {@link Character}, or {@link Number},
+     * and may be other types that the caller passes as-is.
+     *
+     * @param value the value to write
+     */
+    void value(@Nullable Object value);
+
+    /**
+     * Writes the comment for the next value.
+     * <p>
+     * The type of the comment is format-specific (e.g. {@code "block"} or {@code "inline"}), and is empty if not specified.
+     * The default implementation does nothing, which is suitable for formats that do not support comments.
+     *
+     * @param type the type of the comment
+     * @param text the content of the comment
+     */
+    default void writeComment(@NotNull String type, @NotNull String text) {
+    }
+}
@@ -5,6 +5,10 @@ module dev.siroshun.serialization.core {
     requires org.jetbrains.annotations;
 
     exports dev.siroshun.serialization.core;
+    exports dev.siroshun.serialization.core.concurrent;
+    exports dev.siroshun.serialization.core.delta;
     exports dev.siroshun.serialization.core.key;
+    exports dev.siroshun.serialization.core.pool;
     exports dev.siroshun.serialization.core.registry;
+    exports dev.siroshun.serialization.core.stream;
 }
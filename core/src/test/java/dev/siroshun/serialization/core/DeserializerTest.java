@@ -44,4 +44,25 @@ class DeserializerTest {
         Deserializer<String, AtomicInteger> atomicIntegerDeserializer = INT_DESERIALIZER.andThen(AtomicInteger::new);
         Assertions.assertEquals(100, atomicIntegerDeserializer.deserialize("100").get());
     }
+
+    @Test
+    void testInterning() {
+        Deserializer<byte[], String> deserializer = Deserializer.interning(bytes -> new String(bytes, StandardCharsets.UTF_8), 2);
+
+        var first = deserializer.deserialize("JP".getBytes(StandardCharsets.UTF_8));
+        var second = deserializer.deserialize("JP".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals("JP", first);
+        Assertions.assertSame(first, second);
+
+        var us = deserializer.deserialize("US".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertSame(us, deserializer.deserialize("US".getBytes(StandardCharsets.UTF_8)));
+
+        // The table is full, so new values are not interned.
+        var fr1 = deserializer.deserialize("FR".getBytes(StandardCharsets.UTF_8));
+        var fr2 = deserializer.deserialize("FR".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(fr1, fr2);
+        Assertions.assertNotSame(fr1, fr2);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Deserializer.interning(INT_DESERIALIZER, 0));
+    }
 }
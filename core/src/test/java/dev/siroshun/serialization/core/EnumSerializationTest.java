@@ -0,0 +1,78 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+class EnumSerializationTest {
+
+    private static final KeyGenerator LOWER_KEBAB = source -> source.toLowerCase(Locale.ROOT).replace('_', '-');
+
+    @Test
+    void testByName() {
+        var serialization = EnumSerialization.byName(Sample.class, Sample.UNKNOWN);
+
+        for (var constant : Sample.values()) {
+            Assertions.assertEquals(constant.name(), serialization.serializer().serialize(constant));
+            Assertions.assertSame(constant, serialization.deserializer().deserialize(constant.name()));
+        }
+
+        Assertions.assertSame(Sample.FIRST_VALUE, serialization.deserializer().deserialize("first_value"));
+        Assertions.assertSame(Sample.UNKNOWN, serialization.deserializer().deserialize("missing"));
+        Assertions.assertNull(EnumSerialization.byName(Sample.class, null).deserializer().deserialize("missing"));
+    }
+
+    @Test
+    void testByKey() {
+        var serialization = EnumSerialization.byKey(Sample.class, LOWER_KEBAB, null);
+
+        Assertions.assertEquals("first-value", serialization.serializer().serialize(Sample.FIRST_VALUE));
+        Assertions.assertSame(Sample.FIRST_VALUE, serialization.deserializer().deserialize("first-value"));
+        Assertions.assertSame(Sample.SECOND_VALUE, serialization.deserializer().deserialize("SECOND-VALUE"));
+        Assertions.assertSame(Sample.SECOND_VALUE, serialization.deserializer().deserialize("SECOND_VALUE"));
+        Assertions.assertNull(serialization.deserializer().deserialize("third-value"));
+    }
+
+    @Test
+    void testByOrdinal() {
+        var serialization = EnumSerialization.byOrdinal(Sample.class, Sample.UNKNOWN);
+
+        for (var constant : Sample.values()) {
+            Assertions.assertEquals(constant.ordinal(), serialization.serializer().serialize(constant));
+            Assertions.assertSame(constant, serialization.deserializer().deserialize(constant.ordinal()));
+        }
+
+        Assertions.assertSame(Sample.UNKNOWN, serialization.deserializer().deserialize(-1));
+        Assertions.assertSame(Sample.UNKNOWN, serialization.deserializer().deserialize(Sample.values().length));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void testNotEnum() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EnumSerialization.byName((Class) String.class, null));
+    }
+
+    private enum Sample {
+        FIRST_VALUE,
+        SECOND_VALUE,
+        UNKNOWN
+    }
+}
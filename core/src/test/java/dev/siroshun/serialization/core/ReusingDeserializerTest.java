@@ -0,0 +1,75 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import dev.siroshun.serialization.core.pool.ObjectPool;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ReusingDeserializerTest {
+
+    static final ReusingDeserializer<String, StringBuilder> STRING_BUILDER_DESERIALIZER = (input, reuse) -> {
+        var builder = reuse != null ? reuse : new StringBuilder();
+        builder.setLength(0);
+        return builder.append(input);
+    };
+
+    @Test
+    void testDeserializeInto() {
+        var reuse = new StringBuilder("old");
+        Assertions.assertSame(reuse, STRING_BUILDER_DESERIALIZER.deserializeInto("new", reuse));
+        Assertions.assertEquals("new", reuse.toString());
+        Assertions.assertEquals("value", STRING_BUILDER_DESERIALIZER.deserialize("value").toString());
+    }
+
+    @Test
+    void testPooled() {
+        var pool = ObjectPool.<StringBuilder>threadLocal(1);
+        var deserializer = STRING_BUILDER_DESERIALIZER.pooled(pool);
+
+        var first = deserializer.deserialize("a");
+        Assertions.assertEquals("a", first.toString());
+        pool.release(first);
+
+        var second = deserializer.deserialize("b");
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("b", second.toString());
+    }
+
+    @Test
+    void testRegistry() {
+        var registry = DeserializerRegistry.<String>create()
+                .register(StringBuilder.class, STRING_BUILDER_DESERIALIZER)
+                .register(Integer.class, Integer::parseInt);
+
+        Assertions.assertSame(STRING_BUILDER_DESERIALIZER, registry.getReusing(StringBuilder.class));
+        Assertions.assertNull(registry.getReusing(Integer.class));
+        Assertions.assertNull(registry.getReusing(Long.class));
+
+        var pool = ObjectPool.<StringBuilder>threadLocal(1);
+        var pooled = registry.getPooled(StringBuilder.class, pool);
+        Assertions.assertNotNull(pooled);
+
+        var reuse = new StringBuilder("old");
+        pool.release(reuse);
+        Assertions.assertSame(reuse, pooled.deserialize("new"));
+        Assertions.assertEquals("new", reuse.toString());
+
+        Assertions.assertNull(registry.getPooled(Integer.class, ObjectPool.threadLocal(1)));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core;
+
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import dev.siroshun.serialization.core.registry.SerializationRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class SealedSerializationTest {
+
+    @Test
+    void testSubtypes() {
+        Assertions.assertEquals(List.of(Circle.class, Square.class, Triangle.class, Custom.class), SealedSerialization.subtypes(Shape.class));
+        Assertions.assertEquals(List.of(Triangle.class), SealedSerialization.subtypes(Polygon.class));
+    }
+
+    @Test
+    void testByIndex() {
+        var serialization = SealedSerialization.byIndex(Shape.class, SealedSerializationTest::bytes);
+
+        Assertions.assertArrayEquals(new byte[]{0, 3}, serialization.serializer().serialize(new Circle(3)));
+        Assertions.assertArrayEquals(new byte[]{1, 4}, serialization.serializer().serialize(new Square(4)));
+        Assertions.assertArrayEquals(new byte[]{2, 5}, serialization.serializer().serialize(new Triangle(5)));
+        Assertions.assertArrayEquals(new byte[]{3, 6}, serialization.serializer().serialize(new CustomSubclass(6)));
+
+        Assertions.assertEquals(new Circle(3), serialization.deserializer().deserialize(new byte[]{0, 3}));
+        Assertions.assertEquals(new Square(4), serialization.deserializer().deserialize(new byte[]{1, 4}));
+        Assertions.assertEquals(new Triangle(5), serialization.deserializer().deserialize(new byte[]{2, 5}));
+        Assertions.assertEquals(6, ((Custom) serialization.deserializer().deserialize(new byte[]{3, 6})).size);
+
+        Assertions.assertThrows(SerializationException.class, () -> serialization.deserializer().deserialize(new byte[0]));
+        Assertions.assertThrows(SerializationException.class, () -> serialization.deserializer().deserialize(new byte[]{4, 0}));
+        Assertions.assertThrows(SerializationException.class, () -> serialization.deserializer().deserialize(new byte[]{-1, 0}));
+    }
+
+    @Test
+    void testByIndexInPlace() {
+        var serialization = SealedSerialization.byIndexInPlace(Shape.class, SealedSerializationTest::body);
+        var copying = SealedSerialization.byIndex(Shape.class, SealedSerializationTest::bytes);
+
+        for (var shape : List.<Shape>of(new Circle(3), new Square(4), new Triangle(5))) {
+            var serialized = serialization.serializer().serialize(shape);
+            Assertions.assertArrayEquals(copying.serializer().serialize(shape), serialized);
+            Assertions.assertEquals(shape, serialization.deserializer().deserialize(serialized));
+        }
+
+        Assertions.assertEquals(6, ((Custom) serialization.deserializer().deserialize(new byte[]{3, 6})).size);
+        Assertions.assertThrows(SerializationException.class, () -> serialization.deserializer().deserialize(new byte[0]));
+        Assertions.assertThrows(SerializationException.class, () -> serialization.deserializer().deserialize(new byte[]{4, 0}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SealedSerialization.byIndexInPlace(Shape.class, type -> null));
+    }
+
+    @Test
+    void testByKey() {
+        var registry = SerializationRegistry.<Integer>create()
+                .register(Circle.class, Serialization.create(Circle::radius, Circle::new))
+                .register(Square.class, Serialization.create(Square::side, Square::new))
+                .register(Triangle.class, Serialization.create(Triangle::side, Triangle::new))
+                .register(Custom.class, Serialization.create(custom -> custom.size, Custom::new));
+
+        var serialization = SealedSerialization.byKey(Shape.class, KeyGenerator.CAMEL_TO_SNAKE, registry::get);
+
+        Assertions.assertEquals(Map.entry("circle", 3), serialization.serializer().serialize(new Circle(3)));
+        Assertions.assertEquals(Map.entry("triangle", 5), serialization.serializer().serialize(new Triangle(5)));
+        Assertions.assertEquals(Map.entry("custom", 6), serialization.serializer().serialize(new CustomSubclass(6)));
+
+        Assertions.assertEquals(new Square(4), serialization.deserializer().deserialize(Map.entry("square", 4)));
+        Assertions.assertThrows(SerializationException.class, () -> serialization.deserializer().deserialize(Map.entry("hexagon", 1)));
+    }
+
+    @Test
+    void testNullBody() {
+        var byIndex = SealedSerialization.byIndex(Shape.class, type -> Serialization.<Object, byte[]>create(value -> null, input -> null));
+        var exception = Assertions.assertThrows(SerializationException.class, () -> byIndex.serializer().serialize(new Square(1)));
+        Assertions.assertTrue(exception.getMessage().contains(Square.class.getName()), exception.getMessage());
+
+        var byKey = SealedSerialization.byKey(Shape.class, KeyGenerator.AS_IS, type -> Serialization.<Object, Integer>create(value -> null, input -> null));
+        Assertions.assertThrows(SerializationException.class, () -> byKey.serializer().serialize(new Circle(1)));
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void testIllegalArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SealedSerialization.subtypes((Class) Circle.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SealedSerialization.byIndex(Shape.class, type -> null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> SealedSerialization.byIndex(Shape.class, type -> Serialization.onlySerializer(value -> new byte[0])));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> SealedSerialization.byKey(Shape.class, source -> "same", type -> Serialization.create(value -> 0, value -> null)));
+    }
+
+    private static SealedSerialization.BodyCodec<?> body(Class<?> type) {
+        var serialization = bytes(type);
+        return new SealedSerialization.BodyCodec<>() {
+            @Override
+            public int length(@NotNull Object value) {
+                return 1;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void write(@NotNull Object value, byte @NotNull [] array, int offset) {
+                byte[] serialized = ((Serialization<Object, byte[]>) serialization).serializer().serialize(value);
+                array[offset] = serialized[0];
+            }
+
+            @Override
+            public @NotNull Object read(byte @NotNull [] array, int offset, int length) {
+                Assertions.assertEquals(1, length);
+                return serialization.deserializer().deserialize(new byte[]{array[offset]});
+            }
+        };
+    }
+
+    private static Serialization<?, byte[]> bytes(Class<?> type) {
+        if (type == Circle.class) {
+            return Serialization.<Circle, byte[]>create(circle -> new byte[]{(byte) circle.radius()}, input -> new Circle(input[0]));
+        } else if (type == Square.class) {
+            return Serialization.<Square, byte[]>create(square -> new byte[]{(byte) square.side()}, input -> new Square(input[0]));
+        } else if (type == Triangle.class) {
+            return Serialization.<Triangle, byte[]>create(triangle -> new byte[]{(byte) triangle.side()}, input -> new Triangle(input[0]));
+        } else {
+            return Serialization.<Custom, byte[]>create(custom -> new byte[]{(byte) custom.size}, input -> new Custom(input[0]));
+        }
+    }
+
+    private sealed interface Shape permits Circle, Square, Polygon, Custom {
+    }
+
+    private sealed interface Polygon extends Shape permits Triangle {
+    }
+
+    private record Circle(int radius) implements Shape {
+    }
+
+    private record Square(int side) implements Shape {
+    }
+
+    private record Triangle(int side) implements Polygon {
+    }
+
+    private static non-sealed class Custom implements Shape {
+
+        private final int size;
+
+        private Custom(int size) {
+            this.size = size;
+        }
+    }
+
+    private static final class CustomSubclass extends Custom {
+
+        private CustomSubclass(int size) {
+            super(size);
+        }
+    }
+}
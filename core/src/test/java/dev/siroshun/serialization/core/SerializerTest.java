@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class SerializerTest {
 
@@ -43,4 +44,108 @@ class SerializerTest {
         var lengthSerializer = INT_SERIALIZER.andThen(String::length);
         Assertions.assertEquals(3, lengthSerializer.serialize(100));
     }
+
+    @Test
+    void testCached() {
+        var count = new AtomicInteger();
+        var serializer = Serializer.<Integer, String>cached(value -> {
+            count.incrementAndGet();
+            return Integer.toString(value);
+        }, 2);
+
+        Assertions.assertEquals("1", serializer.serialize(1));
+        Assertions.assertEquals("1", serializer.serialize(1));
+        Assertions.assertEquals(1, count.get());
+
+        Assertions.assertEquals("2", serializer.serialize(2));
+        Assertions.assertEquals("1", serializer.serialize(1));
+        Assertions.assertEquals("3", serializer.serialize(3)); // evicts 2
+        Assertions.assertEquals(3, count.get());
+
+        Assertions.assertEquals("1", serializer.serialize(1));
+        Assertions.assertEquals(3, count.get());
+        Assertions.assertEquals("2", serializer.serialize(2));
+        Assertions.assertEquals(4, count.get());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Serializer.cached(INT_SERIALIZER, 0));
+    }
+
+    @Test
+    void testCachedByIdentity() {
+        var count = new AtomicInteger();
+        var serializer = Serializer.<String, Integer>cachedByIdentity(value -> {
+            count.incrementAndGet();
+            return value.length();
+        }, 10);
+
+        var value = "abc";
+        Assertions.assertEquals(3, serializer.serialize(value));
+        Assertions.assertEquals(3, serializer.serialize(value));
+        Assertions.assertEquals(1, count.get());
+
+        Assertions.assertEquals(3, serializer.serialize(new String(value)));
+        Assertions.assertEquals(2, count.get());
+    }
+
+    @Test
+    void testWeaklyCached() {
+        var count = new AtomicInteger();
+        var serializer = Serializer.<List<Integer>, Integer>weaklyCached(value -> {
+            count.incrementAndGet();
+            return value.size();
+        }, 2);
+
+        var value = List.of(1, 2, 3);
+        Assertions.assertEquals(3, serializer.serialize(value));
+        Assertions.assertEquals(3, serializer.serialize(List.of(1, 2, 3)));
+        Assertions.assertEquals(1, count.get());
+
+        Assertions.assertEquals(1, serializer.serialize(List.of(1)));
+        Assertions.assertEquals(2, serializer.serialize(List.of(1, 2))); // evicts [1, 2, 3]
+        Assertions.assertEquals(3, serializer.serialize(value));
+        Assertions.assertEquals(4, count.get());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Serializer.weaklyCached(INT_SERIALIZER, 0));
+    }
+
+    @Test
+    void testCachedSegments() throws InterruptedException {
+        var count = new AtomicInteger();
+        var serializer = Serializer.<Integer, String>cached(value -> {
+            count.incrementAndGet();
+            return Integer.toString(value);
+        }, 1024);
+
+        var threads = new Thread[4];
+        var failed = new AtomicInteger();
+
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    int value = i % 512;
+                    if (!Integer.toString(value).equals(serializer.serialize(value))) {
+                        failed.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(0, failed.get());
+
+        count.set(0);
+        for (int i = 0; i < 5000; i++) {
+            serializer.serialize(10_000 + i);
+        }
+        for (int i = 0; i < 5000; i++) {
+            serializer.serialize(10_000 + i);
+        }
+
+        // at most 1024 of the 5000 values can be cached
+        Assertions.assertTrue(5000 + 5000 - 1024 <= count.get(), "count: " + count.get());
+    }
 }
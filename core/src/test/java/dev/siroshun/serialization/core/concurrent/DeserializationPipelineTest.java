@@ -0,0 +1,130 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class DeserializationPipelineTest {
+
+    private static final DeserializerRegistry<String> REGISTRY =
+            DeserializerRegistry.<String>create()
+                    .register(Integer.class, Integer::parseInt)
+                    .register(Long.class, Long::parseLong)
+                    .freeze();
+
+    @Test
+    void testSubmit() {
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var pipeline = DeserializationPipeline.create(REGISTRY, executor, 4);
+            Assertions.assertEquals(100, pipeline.submit(Integer.class, "100").join());
+            Assertions.assertEquals(200L, pipeline.submit(Long.class, "200").join());
+
+            var unregistered = pipeline.submit(Short.class, "1");
+            var e1 = Assertions.assertThrows(CompletionException.class, unregistered::join);
+            Assertions.assertInstanceOf(SerializationException.class, e1.getCause());
+
+            var invalid = pipeline.submit(Integer.class, "a");
+            var e2 = Assertions.assertThrows(CompletionException.class, invalid::join);
+            Assertions.assertInstanceOf(SerializationException.class, e2.getCause());
+            Assertions.assertInstanceOf(NumberFormatException.class, e2.getCause().getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testDeserializeOrdered() {
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var pipeline = DeserializationPipeline.create(REGISTRY, executor, 3);
+            var result = pipeline.deserialize(Integer.class, IntStream.range(0, 100).mapToObj(Integer::toString), true).toList();
+            Assertions.assertEquals(IntStream.range(0, 100).boxed().toList(), result);
+
+            var mixed = pipeline.deserialize(Stream.of(new DeserializationPipeline.Input<>(Integer.class, "1"), new DeserializationPipeline.Input<>(Long.class, "2")), true).toList();
+            Assertions.assertEquals(List.of(1, 2L), mixed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testDeserializeUnordered() {
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var pipeline = DeserializationPipeline.create(REGISTRY, executor, 3);
+            var result = pipeline.deserialize(Integer.class, IntStream.range(0, 100).mapToObj(Integer::toString), false).collect(Collectors.toSet());
+            Assertions.assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toSet()), result);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBoundedInFlight() {
+        var executor = Executors.newFixedThreadPool(8);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var registry = DeserializerRegistry.<String>create().register(Integer.class, input -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return Integer.parseInt(input);
+        });
+
+        try {
+            var pipeline = DeserializationPipeline.create(registry, executor, 2);
+            var futures = IntStream.range(0, 20).mapToObj(i -> pipeline.submit(Integer.class, Integer.toString(i))).toList();
+            futures.forEach(future -> Assertions.assertDoesNotThrow(future::join));
+            Assertions.assertTrue(maxRunning.get() <= 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailureInStream() {
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            var pipeline = DeserializationPipeline.create(REGISTRY, executor, 2);
+            var stream = pipeline.deserialize(Integer.class, Stream.of("1", "a"), true);
+            Assertions.assertThrows(SerializationException.class, stream::toList);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> DeserializationPipeline.create(REGISTRY, executor, 0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
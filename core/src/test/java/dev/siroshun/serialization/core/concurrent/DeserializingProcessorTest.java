@@ -0,0 +1,185 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+class DeserializingProcessorTest {
+
+    private static final Deserializer<String, Integer> INT_DESERIALIZER = Integer::parseInt;
+
+    @Test
+    void testDeserialize() throws InterruptedException {
+        var upstreamRequests = new AtomicLong();
+        var subscriber = new TestSubscriber(1);
+
+        try (var publisher = new SubmissionPublisher<String>()) {
+            var processor = DeserializingProcessor.create(INT_DESERIALIZER, 8);
+            processor.subscribe(subscriber);
+            publisher.subscribe(new CountingSubscriber(processor, upstreamRequests));
+
+            for (int i = 0; i < 100; i++) {
+                publisher.submit(Integer.toString(i));
+            }
+        }
+
+        Assertions.assertTrue(subscriber.await());
+        Assertions.assertEquals(IntStream.range(0, 100).boxed().toList(), subscriber.items);
+        Assertions.assertNull(subscriber.error.get());
+        Assertions.assertTrue(upstreamRequests.get() < 100, "upstream requests should be batched: " + upstreamRequests.get());
+    }
+
+    @Test
+    void testDeserializationError() throws InterruptedException {
+        var subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        try (var publisher = new SubmissionPublisher<String>()) {
+            DeserializingProcessor.deserialize(publisher, INT_DESERIALIZER, 4).subscribe(subscriber);
+            publisher.submit("1");
+            publisher.submit("a");
+            publisher.submit("2");
+        }
+
+        Assertions.assertTrue(subscriber.await());
+        Assertions.assertEquals(List.of(1), subscriber.items);
+        Assertions.assertInstanceOf(SerializationException.class, subscriber.error.get());
+        Assertions.assertInstanceOf(NumberFormatException.class, subscriber.error.get().getCause());
+    }
+
+    @Test
+    void testUpstreamError() throws InterruptedException {
+        var subscriber = new TestSubscriber(Long.MAX_VALUE);
+        var registry = DeserializerRegistry.<String>create().register(Integer.class, INT_DESERIALIZER);
+
+        try (var publisher = new SubmissionPublisher<String>()) {
+            var processor = DeserializingProcessor.create(registry, Integer.class, 4);
+            processor.subscribe(subscriber);
+            publisher.subscribe(processor);
+            publisher.submit("1");
+            publisher.closeExceptionally(new IllegalStateException("upstream"));
+        }
+
+        Assertions.assertTrue(subscriber.await());
+        Assertions.assertInstanceOf(SerializationException.class, subscriber.error.get());
+        Assertions.assertInstanceOf(IllegalStateException.class, subscriber.error.get().getCause());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DeserializingProcessor.create(registry, Long.class, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DeserializingProcessor.create(INT_DESERIALIZER, 0));
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() throws InterruptedException {
+        var processor = DeserializingProcessor.create(INT_DESERIALIZER, 4);
+        processor.subscribe(new TestSubscriber(1));
+
+        var second = new TestSubscriber(1);
+        processor.subscribe(second);
+
+        Assertions.assertTrue(second.await());
+        Assertions.assertInstanceOf(IllegalStateException.class, second.error.get());
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<Integer> {
+
+        private final long requestSize;
+        private final List<Integer> items = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        private TestSubscriber(long requestSize) {
+            this.requestSize = requestSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(this.requestSize);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            this.items.add(item);
+
+            if (this.requestSize != Long.MAX_VALUE) {
+                this.subscription.request(this.requestSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error.set(throwable);
+            this.latch.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.latch.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return this.latch.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private record CountingSubscriber(Flow.Subscriber<String> delegate, AtomicLong requests) implements Flow.Subscriber<String> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    CountingSubscriber.this.requests.incrementAndGet();
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(String item) {
+            this.delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.delegate.onComplete();
+        }
+    }
+}
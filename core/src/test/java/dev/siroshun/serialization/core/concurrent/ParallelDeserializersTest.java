@@ -0,0 +1,130 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.registry.DeserializerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+class ParallelDeserializersTest {
+
+    @Test
+    void testCollection() {
+        var pool = new ForkJoinPool(4);
+
+        try {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+            Deserializer<String, Integer> elementDeserializer = value -> {
+                threads.add(Thread.currentThread());
+                return Integer.parseInt(value);
+            };
+
+            var deserializer = ParallelDeserializers.collection(elementDeserializer, 16, pool);
+            var input = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+
+            var result = deserializer.deserialize(input);
+            Assertions.assertEquals(IntStream.range(0, 10_000).boxed().toList(), result);
+            Assertions.assertEquals(List.of(), deserializer.deserialize(List.of()));
+            Assertions.assertEquals(Arrays.asList(1, null), deserializer.deserialize(Arrays.asList("1", null)));
+            Assertions.assertFalse(threads.isEmpty());
+
+            result.add(-1);
+            Assertions.assertEquals(10_001, result.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSmallCollectionRunsOnCallerThread() {
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var deserializer = ParallelDeserializers.<String, Integer>collection(value -> {
+            threads.add(Thread.currentThread());
+            return Integer.parseInt(value);
+        }, 100, ForkJoinPool.commonPool());
+
+        Assertions.assertEquals(List.of(1, 2, 3), deserializer.deserialize(List.of("1", "2", "3")));
+        Assertions.assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void testCollectionWithRegistry() {
+        var registry = DeserializerRegistry.<String>create().register(Integer.class, Integer::parseInt);
+        var deserializer = ParallelDeserializers.collection(registry, Integer.class, 8);
+        var input = IntStream.range(0, 1000).mapToObj(String::valueOf).toList();
+
+        Assertions.assertEquals(IntStream.range(0, 1000).boxed().toList(), deserializer.deserialize(input));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelDeserializers.collection(registry, Long.class, 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelDeserializers.collection(registry, Integer.class, 0));
+    }
+
+    @Test
+    void testMap() {
+        var registry = DeserializerRegistry.<String>create()
+                .register(Integer.class, Integer::parseInt)
+                .register(Long.class, Long::parseLong);
+        var deserializer = ParallelDeserializers.map(registry, Integer.class, Long.class, 8);
+
+        var input = new LinkedHashMap<String, String>();
+        var expected = new LinkedHashMap<Integer, Long>();
+
+        for (int i = 1000; 0 < i; i--) {
+            input.put(Integer.toString(i), Long.toString(i * 2L));
+            expected.put(i, i * 2L);
+        }
+
+        var result = deserializer.deserialize(input);
+        Assertions.assertEquals(expected, result);
+        Assertions.assertEquals(List.copyOf(expected.keySet()), List.copyOf(result.keySet()));
+
+        result.put(-1, -1L);
+        Assertions.assertEquals(1001, result.size());
+    }
+
+    @Test
+    void testMapDuplicateKeys() {
+        var pool = new ForkJoinPool(4);
+
+        try {
+            Deserializer<String, Integer> keyDeserializer = value -> Integer.parseInt(value) % 100;
+            var deserializer = ParallelDeserializers.<String, String, Integer, Integer>map(keyDeserializer, Integer::parseInt, 8, pool);
+
+            var input = new LinkedHashMap<String, String>();
+
+            for (int i = 0; i < 100; i++) {
+                input.put(Integer.toString(i), Integer.toString(i));
+            }
+
+            Assertions.assertEquals(100, deserializer.deserialize(input).size());
+
+            input.put("100", "100");
+            Assertions.assertThrows(SerializationException.class, () -> deserializer.deserialize(input));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
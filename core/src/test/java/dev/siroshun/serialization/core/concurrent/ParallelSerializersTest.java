@@ -0,0 +1,141 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.concurrent;
+
+import dev.siroshun.serialization.core.SerializationException;
+import dev.siroshun.serialization.core.Serializer;
+import dev.siroshun.serialization.core.registry.SerializerRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+class ParallelSerializersTest {
+
+    @Test
+    void testCollection() {
+        var pool = new ForkJoinPool(4);
+
+        try {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+            Serializer<Integer, String> elementSerializer = value -> {
+                threads.add(Thread.currentThread());
+                return Integer.toString(value);
+            };
+
+            var serializer = ParallelSerializers.collection(elementSerializer, 16, pool);
+            var input = IntStream.range(0, 10_000).boxed().toList();
+
+            Assertions.assertEquals(input.stream().map(String::valueOf).toList(), serializer.serialize(input));
+            Assertions.assertEquals(List.of(), serializer.serialize(List.of()));
+            Assertions.assertEquals(Arrays.asList("1", null), serializer.serialize(Arrays.asList(1, null)));
+            Assertions.assertFalse(threads.isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSmallCollectionRunsOnCallerThread() {
+        var threads = ConcurrentHashMap.<Thread>newKeySet();
+        var serializer = ParallelSerializers.<Integer, String>collection(value -> {
+            threads.add(Thread.currentThread());
+            return Integer.toString(value);
+        }, 100, ForkJoinPool.commonPool());
+
+        Assertions.assertEquals(List.of("1", "2", "3"), serializer.serialize(List.of(1, 2, 3)));
+        Assertions.assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void testMutableResults() {
+        var collectionSerializer = ParallelSerializers.<Integer, String>collection(value -> Integer.toString(value), 4, ForkJoinPool.commonPool());
+
+        for (int size : new int[]{0, 3, 100}) {
+            var result = collectionSerializer.serialize(IntStream.range(0, size).boxed().toList());
+            result.add("added");
+            Assertions.assertEquals(size + 1, result.size());
+        }
+
+        var mapSerializer = ParallelSerializers.<Integer, Integer, String, String>map(value -> Integer.toString(value), value -> Integer.toString(value), 4, ForkJoinPool.commonPool());
+        var result = mapSerializer.serialize(Map.of(1, 2));
+        result.put("added", "added");
+        Assertions.assertEquals(2, result.size());
+    }
+
+    @Test
+    void testCollectionWithRegistry() {
+        var registry = SerializerRegistry.<String>create().register(Integer.class, value -> Integer.toString(value));
+        var serializer = ParallelSerializers.collection(registry, Integer.class, 8);
+        var input = new ArrayList<>(IntStream.range(0, 1000).boxed().toList());
+
+        Assertions.assertEquals(input.stream().map(String::valueOf).toList(), serializer.serialize(input));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelSerializers.collection(registry, Long.class, 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelSerializers.collection(registry, Integer.class, 0));
+    }
+
+    @Test
+    void testMap() {
+        var registry = SerializerRegistry.<String>create()
+                .register(Integer.class, value -> Integer.toString(value))
+                .register(Long.class, value -> Long.toString(value));
+        var serializer = ParallelSerializers.map(registry, Integer.class, Long.class, 8);
+
+        var input = new LinkedHashMap<Integer, Long>();
+        var expected = new LinkedHashMap<String, String>();
+
+        for (int i = 1000; 0 < i; i--) {
+            input.put(i, i * 2L);
+            expected.put(Integer.toString(i), Long.toString(i * 2L));
+        }
+
+        var result = serializer.serialize(input);
+        Assertions.assertEquals(expected, result);
+        Assertions.assertEquals(List.copyOf(expected.keySet()), List.copyOf(result.keySet()));
+    }
+
+    @Test
+    void testMapDuplicateKeys() {
+        var pool = new ForkJoinPool(4);
+
+        try {
+            Serializer<Integer, String> keySerializer = value -> Integer.toString(value % 100);
+            var serializer = ParallelSerializers.map(keySerializer, String::valueOf, 8, pool);
+
+            var input = new LinkedHashMap<Integer, Integer>();
+
+            for (int i = 0; i < 100; i++) {
+                input.put(i, i);
+            }
+
+            Assertions.assertEquals(100, serializer.serialize(input).size());
+
+            input.put(100, 100);
+            Assertions.assertThrows(SerializationException.class, () -> serializer.serialize(input));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
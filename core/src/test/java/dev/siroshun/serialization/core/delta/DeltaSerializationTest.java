@@ -0,0 +1,120 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.delta;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.Serializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DeltaSerializationTest {
+
+    private record Position(String name, int x, Integer y) {
+    }
+
+    private static final Serializer<Position, Map<String, Object>> POSITION_SERIALIZER = position -> {
+        var map = new HashMap<String, Object>();
+        map.put("name", position.name());
+        map.put("x", position.x());
+        if (position.y() != null) {
+            map.put("y", position.y());
+        }
+        return map;
+    };
+
+    private static final Deserializer<Map<String, Object>, Position> POSITION_DESERIALIZER =
+            map -> new Position((String) map.get("name"), (Integer) map.get("x"), (Integer) map.get("y"));
+
+    @Test
+    void testBetween() {
+        Assertions.assertTrue(Delta.between(Map.of("a", 1), Map.of("a", 1)).isEmpty());
+
+        var delta = Delta.between(Map.of("a", 1, "b", 2, "c", 3), Map.of("a", 1, "b", 20, "d", 4));
+        Assertions.assertEquals(Map.of("b", 20, "d", 4), delta.changed());
+        Assertions.assertEquals(Set.of("c"), delta.removed());
+        Assertions.assertEquals(Map.of("a", 1, "b", 20, "d", 4), delta.applyTo(Map.of("a", 1, "b", 2, "c", 3)));
+    }
+
+    @Test
+    void testKeyOrder() {
+        var previous = new LinkedHashMap<String, Integer>();
+        var current = new LinkedHashMap<String, Integer>();
+
+        for (int i = 0; i < 20; i++) {
+            previous.put("key" + i, i);
+            current.put("key" + (19 - i), i == 5 ? 1 : 19 - i);
+        }
+
+        current.put("z", 26);
+        current.put("a", 1);
+        current.remove("key3");
+        current.remove("key17");
+
+        var delta = Delta.between(previous, current);
+        Assertions.assertEquals(List.of("key14", "z", "a"), List.copyOf(delta.changed().keySet()));
+        Assertions.assertEquals(List.of("key3", "key17"), List.copyOf(delta.removed()));
+
+        var applied = delta.applyTo(previous);
+        Assertions.assertEquals(current, applied);
+
+        var expectedOrder = new ArrayList<>(previous.keySet());
+        expectedOrder.removeAll(delta.removed());
+        expectedOrder.addAll(List.of("z", "a"));
+        Assertions.assertEquals(expectedOrder, List.copyOf(applied.keySet()));
+    }
+
+    @Test
+    void testSerializeAndDeserialize() {
+        var count = new AtomicInteger();
+        var serializer = DeltaSerializer.create(POSITION_SERIALIZER.andThen(map -> {
+            count.incrementAndGet();
+            return map;
+        }));
+        var deserializer = DeltaDeserializer.create(POSITION_DESERIALIZER);
+
+        var first = new Position("a", 1, 2);
+        var firstDelta = serializer.serialize(first);
+        Assertions.assertEquals(Map.of("name", "a", "x", 1, "y", 2), firstDelta.changed());
+        Assertions.assertEquals(first, deserializer.deserialize(firstDelta));
+
+        var unchanged = serializer.serialize(new Position("a", 1, 2));
+        Assertions.assertTrue(unchanged.isEmpty());
+        Assertions.assertEquals(1, count.get());
+        Assertions.assertEquals(first, deserializer.deserialize(unchanged));
+
+        var second = new Position("a", 5, null);
+        var secondDelta = serializer.serialize(second);
+        Assertions.assertEquals(Map.of("x", 5), secondDelta.changed());
+        Assertions.assertEquals(Set.of("y"), secondDelta.removed());
+        Assertions.assertEquals(second, deserializer.deserialize(secondDelta));
+
+        serializer.reset();
+        deserializer.reset();
+        var third = new Position("b", 5, null);
+        var thirdDelta = serializer.serialize(third);
+        Assertions.assertEquals(Map.of("name", "b", "x", 5), thirdDelta.changed());
+        Assertions.assertEquals(third, deserializer.deserialize(thirdDelta));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.pool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+class ObjectPoolTest {
+
+    @ParameterizedTest
+    @MethodSource("createPool")
+    void testAcquireAndRelease(ObjectPool<StringBuilder> pool) {
+        Assertions.assertNull(pool.acquire());
+
+        var first = new StringBuilder();
+        var second = new StringBuilder();
+        pool.release(first);
+        pool.release(second);
+        pool.release(new StringBuilder()); // discarded
+
+        Assertions.assertSame(second, pool.acquire());
+        Assertions.assertSame(first, pool.acquire());
+        Assertions.assertNull(pool.acquire());
+    }
+
+    @ParameterizedTest
+    @MethodSource("createPool")
+    void testClear(ObjectPool<StringBuilder> pool) {
+        pool.release(new StringBuilder());
+        pool.release(new StringBuilder());
+        pool.clear();
+        Assertions.assertNull(pool.acquire());
+
+        var object = new StringBuilder();
+        pool.release(object);
+        Assertions.assertSame(object, pool.acquire());
+    }
+
+    @ParameterizedTest
+    @MethodSource("createPool")
+    void testOtherThread(ObjectPool<StringBuilder> pool) throws InterruptedException {
+        var object = new StringBuilder();
+        pool.release(object);
+
+        var acquired = new AtomicReference<StringBuilder>();
+        var thread = new Thread(() -> acquired.set(pool.acquire()));
+        thread.start();
+        thread.join();
+
+        Assertions.assertTrue(acquired.get() == null || acquired.get() == object);
+    }
+
+    private static Stream<ObjectPool<StringBuilder>> createPool() {
+        return Stream.of(ObjectPool.threadLocal(2), ObjectPool.striped(1, 2), ObjectPool.striped(8, 2));
+    }
+}
@@ -88,6 +88,23 @@ class DeserializerRegistryTest {
         Assertions.assertDoesNotThrow(() -> registry.registerAll(DeserializerRegistry.empty()));
     }
 
+    @ParameterizedTest
+    @MethodSource("createRegistry")
+    void testFork(@NotNull DeserializerRegistry<String> registry) {
+        registry.register(Integer.class, INT_DESERIALIZER).freeze();
+
+        var forked = registry.fork();
+        Assertions.assertNotSame(registry, forked);
+        Assertions.assertFalse(forked.isFrozen());
+        Assertions.assertSame(INT_DESERIALIZER, forked.get(Integer.class));
+
+        forked.register(Long.class, LONG_DESERIALIZER);
+        Assertions.assertSame(LONG_DESERIALIZER, forked.get(Long.class));
+        Assertions.assertNull(registry.get(Long.class));
+
+        Assertions.assertFalse(DeserializerRegistry.<String>empty().fork().isFrozen());
+    }
+
     private static @NotNull Stream<DeserializerRegistry<String>> createRegistry() {
         return Stream.of(DeserializerRegistry.create());
     }
@@ -0,0 +1,133 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.core.registry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class PersistentClassMapTest {
+
+    @Test
+    void testEmpty() {
+        var map = PersistentClassMap.<String>empty();
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertNull(map.get(String.class));
+        Assertions.assertFalse(map.containsKey(String.class));
+        Assertions.assertFalse(map.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    void testWith() {
+        var empty = PersistentClassMap.<String>empty();
+        var map1 = empty.with(Integer.class, "int");
+        var map2 = map1.with(Long.class, "long");
+        var map3 = map2.with(Integer.class, "integer");
+
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertEquals(Map.of(Integer.class, "int"), map1);
+        Assertions.assertEquals(Map.of(Integer.class, "int", Long.class, "long"), map2);
+        Assertions.assertEquals(Map.of(Integer.class, "integer", Long.class, "long"), map3);
+        Assertions.assertSame(map3, map3.with(Long.class, "long"));
+        Assertions.assertNull(map3.get("not a class"));
+    }
+
+    @Test
+    void testManyEntries() {
+        var classes = createClasses();
+        var expected = new HashMap<Class<?>, Integer>();
+        var map = PersistentClassMap.<Integer>empty();
+        var snapshots = new ArrayList<PersistentClassMap<Integer>>();
+
+        for (int i = 0; i < classes.size(); i++) {
+            map = map.with(classes.get(i), i);
+            expected.put(classes.get(i), i);
+            snapshots.add(map);
+        }
+
+        Assertions.assertEquals(expected, map);
+        Assertions.assertEquals(expected, new HashMap<>(map));
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            var snapshot = snapshots.get(i);
+            Assertions.assertEquals(i + 1, snapshot.size());
+            Assertions.assertEquals(i, snapshot.get(classes.get(i)));
+
+            if (i + 1 < classes.size()) {
+                Assertions.assertFalse(snapshot.containsKey(classes.get(i + 1)));
+            }
+        }
+
+        var replaced = map.with(classes.get(0), -1);
+        Assertions.assertEquals(map.size(), replaced.size());
+        Assertions.assertEquals(-1, replaced.get(classes.get(0)));
+        Assertions.assertEquals(0, map.get(classes.get(0)));
+    }
+
+    @Test
+    void testCopyOf() {
+        var source = Map.<Class<?>, String>of(Integer.class, "int", Long.class, "long");
+        var copied = PersistentClassMap.copyOf(source);
+
+        Assertions.assertEquals(source, copied);
+        Assertions.assertSame(copied, PersistentClassMap.copyOf(copied));
+    }
+
+    @Test
+    void testBuild() {
+        var classes = createClasses();
+        var expected = new HashMap<Class<?>, Integer>();
+
+        for (int i = 0; i < classes.size(); i++) {
+            expected.put(classes.get(i), i);
+        }
+
+        var built = PersistentClassMap.build(expected);
+        Assertions.assertEquals(expected.size(), built.size());
+        Assertions.assertEquals(expected, built);
+        Assertions.assertEquals(expected, new HashMap<>(built));
+
+        var added = built.with(PersistentClassMapTest.class, -1);
+        Assertions.assertEquals(expected.size() + 1, added.size());
+        Assertions.assertEquals(-1, added.get(PersistentClassMapTest.class));
+        Assertions.assertFalse(built.containsKey(PersistentClassMapTest.class));
+
+        Assertions.assertEquals(Map.of(String.class, 1), PersistentClassMap.build(Map.of(String.class, 1)));
+        Assertions.assertSame(PersistentClassMap.empty(), PersistentClassMap.build(Map.of()));
+    }
+
+    private static List<Class<?>> createClasses() {
+        var classes = new ArrayList<Class<?>>();
+
+        for (var base : List.of(Object.class, String.class, Integer.class, Long.class, Map.class, List.class)) {
+            Class<?> clazz = base;
+
+            for (int i = 0; i < 200; i++) {
+                classes.add(clazz);
+                clazz = Array.newInstance(clazz, 0).getClass();
+            }
+        }
+
+        return classes;
+    }
+}
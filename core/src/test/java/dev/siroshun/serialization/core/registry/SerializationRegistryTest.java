@@ -20,6 +20,12 @@ import dev.siroshun.serialization.core.Serialization;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class SerializationRegistryTest {
 
     private static final SerializerRegistryTest SHARED_SERIALIZER_REGISTRY_TEST = new SerializerRegistryTest();
@@ -160,4 +166,184 @@ class SerializationRegistryTest {
         Assertions.assertSame(INT_SERIALIZATION.serializer(), s4.serializer());
         Assertions.assertSame(DeserializerRegistryTest.INT_DESERIALIZER, s4.deserializer());
     }
+
+    @Test
+    void testLayered() {
+        var parent = SerializationRegistry.<String>create().register(Integer.class, INT_SERIALIZATION);
+        var child = SerializationRegistry.<String>create();
+        var layered = SerializationRegistry.layered(parent, child);
+
+        Assertions.assertSame(INT_SERIALIZATION, layered.get(Integer.class));
+        Assertions.assertNull(layered.get(Long.class));
+
+        Assertions.assertSame(layered, layered.register(Long.class, LONG_SERIALIZATION));
+        Assertions.assertSame(LONG_SERIALIZATION, layered.get(Long.class));
+        Assertions.assertSame(LONG_SERIALIZATION, child.get(Long.class));
+        Assertions.assertNull(parent.get(Long.class));
+
+        var overridden = Serialization.create(SerializerRegistryTest.INT_SERIALIZER, DeserializerRegistryTest.INT_DESERIALIZER);
+        child.register(Integer.class, overridden);
+        Assertions.assertSame(overridden, layered.get(Integer.class));
+        Assertions.assertSame(INT_SERIALIZATION, parent.get(Integer.class));
+
+        Assertions.assertFalse(layered.isFrozen());
+        Assertions.assertSame(layered, layered.freeze());
+        Assertions.assertTrue(layered.isFrozen());
+        Assertions.assertTrue(child.isFrozen());
+        Assertions.assertFalse(parent.isFrozen());
+        Assertions.assertThrows(IllegalStateException.class, () -> layered.register(Integer.class, INT_SERIALIZATION));
+
+        var copied = SerializationRegistry.<String>create().registerAll(layered);
+        Assertions.assertSame(overridden, copied.get(Integer.class));
+        Assertions.assertSame(LONG_SERIALIZATION, copied.get(Long.class));
+
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, layered.asSerializerRegistry().get(Integer.class));
+        Assertions.assertSame(DeserializerRegistryTest.LONG_DESERIALIZER, layered.asDeserializerRegistry().get(Long.class));
+    }
+
+    @Test
+    void testLayeredAfterFreezingBoth() {
+        var parent = SerializationRegistry.<String>create().register(Integer.class, INT_SERIALIZATION);
+        var layered = SerializationRegistry.layered(parent, SerializationRegistry.<String>create().register(Long.class, LONG_SERIALIZATION));
+
+        layered.freeze();
+        Assertions.assertSame(INT_SERIALIZATION, layered.get(Integer.class));
+
+        parent.register(Short.class, Serialization.create(String::valueOf, Short::parseShort));
+        Assertions.assertNotNull(layered.get(Short.class));
+
+        parent.freeze();
+        Assertions.assertSame(INT_SERIALIZATION, layered.get(Integer.class));
+        Assertions.assertSame(LONG_SERIALIZATION, layered.get(Long.class));
+        Assertions.assertNotNull(layered.get(Short.class));
+        Assertions.assertNull(layered.get(Byte.class));
+    }
+
+    @Test
+    void testConvertBetweenRegistries() {
+        var source = SerializationRegistry.<String>create()
+                .register(Integer.class, INT_SERIALIZATION)
+                .register(Long.class, Serialization.onlyDeserializer(DeserializerRegistryTest.LONG_DESERIALIZER))
+                .freeze();
+
+        var serializerRegistry = SerializerRegistry.<String>create().registerAll(source.asSerializerRegistry());
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, serializerRegistry.get(Integer.class));
+        Assertions.assertNull(serializerRegistry.get(Long.class));
+
+        var deserializerRegistry = DeserializerRegistry.<String>create().registerAll(source.asDeserializerRegistry());
+        Assertions.assertSame(DeserializerRegistryTest.INT_DESERIALIZER, deserializerRegistry.get(Integer.class));
+        Assertions.assertSame(DeserializerRegistryTest.LONG_DESERIALIZER, deserializerRegistry.get(Long.class));
+
+        // Serializers registered through SerializerRegistry must not carry Deserializers of the original registry.
+        var onlySerializers = SerializationRegistry.<String>create();
+        onlySerializers.asSerializerRegistry().registerAll(serializerRegistry);
+        var intSerialization = onlySerializers.get(Integer.class);
+        Assertions.assertNotNull(intSerialization);
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, intSerialization.serializer());
+        Assertions.assertFalse(intSerialization.hasDeserializer());
+        Assertions.assertNull(onlySerializers.get(Long.class));
+
+        var merged = SerializationRegistry.<String>create();
+        merged.asDeserializerRegistry().registerAll(deserializerRegistry);
+        merged.asSerializerRegistry().registerAll(serializerRegistry);
+        var mergedInt = merged.get(Integer.class);
+        Assertions.assertNotNull(mergedInt);
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, mergedInt.serializer());
+        Assertions.assertSame(DeserializerRegistryTest.INT_DESERIALIZER, mergedInt.deserializer());
+        var mergedLong = merged.get(Long.class);
+        Assertions.assertNotNull(mergedLong);
+        Assertions.assertFalse(mergedLong.hasSerializer());
+        Assertions.assertSame(DeserializerRegistryTest.LONG_DESERIALIZER, mergedLong.deserializer());
+    }
+
+    @Test
+    void testRegisterAllDoesNotOverwriteWithMissingSerializer() {
+        var serializerRegistry = SerializerRegistry.<String>create().register(Long.class, SerializerRegistryTest.LONG_SERIALIZER);
+        serializerRegistry.registerAll(
+                SerializationRegistry.<String>create()
+                        .register(Integer.class, INT_SERIALIZATION)
+                        .register(Long.class, Serialization.onlyDeserializer(DeserializerRegistryTest.LONG_DESERIALIZER))
+                        .asSerializerRegistry()
+        );
+
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, serializerRegistry.get(Integer.class));
+        Assertions.assertSame(SerializerRegistryTest.LONG_SERIALIZER, serializerRegistry.get(Long.class));
+    }
+
+    @Test
+    void testFork() {
+        var base = SerializationRegistry.<String>create().register(Integer.class, INT_SERIALIZATION).freeze();
+        var forked = base.fork();
+
+        Assertions.assertNotSame(base, forked);
+        Assertions.assertFalse(forked.isFrozen());
+        Assertions.assertSame(INT_SERIALIZATION, forked.get(Integer.class));
+
+        var overridden = Serialization.create(SerializerRegistryTest.INT_SERIALIZER, DeserializerRegistryTest.INT_DESERIALIZER);
+        forked.register(Integer.class, overridden).register(Long.class, LONG_SERIALIZATION);
+        Assertions.assertSame(overridden, forked.get(Integer.class));
+        Assertions.assertSame(LONG_SERIALIZATION, forked.get(Long.class));
+        Assertions.assertSame(INT_SERIALIZATION, base.get(Integer.class));
+        Assertions.assertNull(base.get(Long.class));
+
+        var forkedSerializers = base.asSerializerRegistry().fork();
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, forkedSerializers.get(Integer.class));
+        forkedSerializers.register(Long.class, SerializerRegistryTest.LONG_SERIALIZER);
+        Assertions.assertNull(base.get(Long.class));
+
+        var layered = SerializationRegistry.layered(base, SerializationRegistry.<String>create().register(Long.class, LONG_SERIALIZATION));
+        var forkedLayered = layered.fork();
+        Assertions.assertSame(INT_SERIALIZATION, forkedLayered.get(Integer.class));
+        Assertions.assertSame(LONG_SERIALIZATION, forkedLayered.get(Long.class));
+        layered.register(Short.class, Serialization.create(String::valueOf, Short::parseShort));
+        Assertions.assertNull(forkedLayered.get(Short.class));
+
+        Assertions.assertFalse(SerializationRegistry.<String>empty().fork().isFrozen());
+    }
+
+    @Test
+    void testWarmUp() {
+        var serializeCount = new AtomicInteger();
+        var deserializeCount = new AtomicInteger();
+        var registry = SerializationRegistry.<String>create()
+                .register(Integer.class, Serialization.create(
+                        (Integer value) -> {
+                            serializeCount.incrementAndGet();
+                            return String.valueOf(value);
+                        },
+                        value -> {
+                            deserializeCount.incrementAndGet();
+                            return Integer.parseInt(value);
+                        }
+                ))
+                .freeze();
+        var layered = SerializationRegistry.layered(registry, SerializationRegistry.<String>create().register(Long.class, LONG_SERIALIZATION).freeze());
+
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            layered.warmUp(Map.of(Integer.class, List.of(1, 2, 3), Long.class, List.of(4L)), 10, executor).join();
+            Assertions.assertEquals(30, serializeCount.get());
+            Assertions.assertEquals(30, deserializeCount.get());
+
+            var future = registry.warmUp(Map.of(Short.class, List.of((short) 1)), 1, executor);
+            var exception = Assertions.assertThrows(CompletionException.class, future::join);
+            Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.warmUp(Map.of(), -1, Runnable::run));
+    }
+
+    @Test
+    void testFrozen() {
+        var registry = SerializationRegistry.<String>frozen(Map.of(Integer.class, INT_SERIALIZATION, Long.class, LONG_SERIALIZATION));
+
+        Assertions.assertTrue(registry.isFrozen());
+        Assertions.assertSame(INT_SERIALIZATION, registry.get(Integer.class));
+        Assertions.assertSame(LONG_SERIALIZATION, registry.get(Long.class));
+        Assertions.assertSame(SerializerRegistryTest.INT_SERIALIZER, registry.asSerializerRegistry().get(Integer.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> registry.register(Short.class, Serialization.create(String::valueOf, Short::parseShort)));
+
+        var forked = registry.fork().register(Short.class, Serialization.create(String::valueOf, Short::parseShort));
+        Assertions.assertNotNull(forked.get(Short.class));
+        Assertions.assertSame(INT_SERIALIZATION, forked.get(Integer.class));
+    }
 }
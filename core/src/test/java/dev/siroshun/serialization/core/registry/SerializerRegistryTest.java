@@ -88,6 +88,23 @@ class SerializerRegistryTest {
         Assertions.assertDoesNotThrow(() -> registry.registerAll(SerializerRegistry.empty()));
     }
 
+    @ParameterizedTest
+    @MethodSource("createRegistry")
+    void testFork(@NotNull SerializerRegistry<String> registry) {
+        registry.register(Integer.class, INT_SERIALIZER).freeze();
+
+        var forked = registry.fork();
+        Assertions.assertNotSame(registry, forked);
+        Assertions.assertFalse(forked.isFrozen());
+        Assertions.assertSame(INT_SERIALIZER, forked.get(Integer.class));
+
+        forked.register(Long.class, LONG_SERIALIZER);
+        Assertions.assertSame(LONG_SERIALIZER, forked.get(Long.class));
+        Assertions.assertNull(registry.get(Long.class));
+
+        Assertions.assertFalse(SerializerRegistry.<String>empty().fork().isFrozen());
+    }
+
     private static @NotNull Stream<SerializerRegistry<String>> createRegistry() {
         return Stream.of(SerializerRegistry.create());
     }
@@ -0,0 +1,215 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.codec.collection.IntList;
+import dev.siroshun.serialization.codec.collection.IntLongMap;
+import dev.siroshun.serialization.codec.collection.LongList;
+import dev.siroshun.serialization.codec.collection.PrimitiveCollections;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+// Converters for IntList, LongList, IntLongMap and primitive arrays, which hold their elements without boxing.
+final class PrimitiveContainers {
+
+    // returns the primitive container for the component, or null if the component should use boxed collections
+    static @Nullable Class<?> containerType(@NotNull Class<?> raw, @Nullable Type elementType,
+                                            @Nullable Type keyType, @Nullable Type valueType) {
+        if (raw == IntList.class || raw == LongList.class || raw == IntLongMap.class || (raw.isArray() && raw.componentType().isPrimitive())) {
+            return raw;
+        }
+
+        Class<?> container = null;
+
+        if (elementType instanceof Class<?> element) {
+            container = PrimitiveCollections.collectionType(element);
+        } else if (keyType instanceof Class<?> key && valueType instanceof Class<?> value) {
+            container = PrimitiveCollections.mapType(key, value);
+        }
+
+        // a List<Integer> component cannot hold an IntList, so @CollectionType(int.class) only applies to compatible declarations
+        return container != null && raw.isAssignableFrom(container) ? container : null;
+    }
+
+    static @NotNull UnaryOperator<Object> reader(@NotNull Class<?> container) {
+        if (container == IntList.class) {
+            return value -> {
+                if (value instanceof IntList) {
+                    return value;
+                } else if (value instanceof int[] array) {
+                    return IntList.of(array);
+                }
+
+                var collection = collection(container, value);
+                var result = IntList.create(collection.size());
+                for (var e : collection) {
+                    result.add((int) toLong(container, e));
+                }
+                return result;
+            };
+        } else if (container == LongList.class) {
+            return value -> {
+                if (value instanceof LongList) {
+                    return value;
+                } else if (value instanceof long[] array) {
+                    return LongList.of(array);
+                }
+
+                var collection = collection(container, value);
+                var result = LongList.create(collection.size());
+                for (var e : collection) {
+                    result.add(toLong(container, e));
+                }
+                return result;
+            };
+        } else if (container == IntLongMap.class) {
+            return value -> {
+                if (value instanceof IntLongMap) {
+                    return value;
+                }
+
+                if (!(value instanceof Map<?, ?> map)) {
+                    throw mismatch(container, value);
+                }
+
+                var result = IntLongMap.create(map.size());
+                for (var entry : map.entrySet()) {
+                    result.put((int) toLong(container, entry.getKey()), toLong(container, entry.getValue()));
+                }
+                return result;
+            };
+        } else {
+            var componentType = container.componentType();
+            return value -> {
+                if (container.isInstance(value)) {
+                    return value;
+                }
+
+                var collection = collection(container, value);
+                var result = Array.newInstance(componentType, collection.size());
+                int i = 0;
+                for (var e : collection) {
+                    setElement(container, result, i++, e);
+                }
+                return result;
+            };
+        }
+    }
+
+    // StructuredWriter only accepts objects, so the elements are boxed one by one while emitting
+    static @NotNull ValueConverters.ValueEmitter emitter(@NotNull Class<?> container) {
+        if (container == IntList.class) {
+            return (value, writer) -> {
+                writer.beginArray();
+                ((IntList) value).forEach(writer::value);
+                writer.endArray();
+            };
+        } else if (container == LongList.class) {
+            return (value, writer) -> {
+                writer.beginArray();
+                ((LongList) value).forEach(writer::value);
+                writer.endArray();
+            };
+        } else if (container == IntLongMap.class) {
+            return (value, writer) -> {
+                writer.beginObject();
+                ((IntLongMap) value).forEach((k, v) -> {
+                    writer.name(Integer.toString(k));
+                    writer.value(v);
+                });
+                writer.endObject();
+            };
+        } else {
+            return (value, writer) -> {
+                writer.beginArray();
+                for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                    writer.value(Array.get(value, i));
+                }
+                writer.endArray();
+            };
+        }
+    }
+
+    private static @NotNull Collection<?> collection(@NotNull Class<?> container, @NotNull Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection;
+        }
+        throw mismatch(container, value);
+    }
+
+    private static long toLong(@NotNull Class<?> container, @Nullable Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        } else if (value instanceof String str) {
+            return Long.parseLong(str.trim());
+        }
+        throw mismatch(container, value);
+    }
+
+    private static double toDouble(@NotNull Class<?> container, @Nullable Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        } else if (value instanceof String str) {
+            return Double.parseDouble(str.trim());
+        }
+        throw mismatch(container, value);
+    }
+
+    private static void setElement(@NotNull Class<?> container, @NotNull Object array, int index, @Nullable Object value) {
+        switch (array) {
+            case int[] ints -> ints[index] = (int) toLong(container, value);
+            case long[] longs -> longs[index] = toLong(container, value);
+            case short[] shorts -> shorts[index] = (short) toLong(container, value);
+            case byte[] bytes -> bytes[index] = (byte) toLong(container, value);
+            case double[] doubles -> doubles[index] = toDouble(container, value);
+            case float[] floats -> floats[index] = (float) toDouble(container, value);
+            case boolean[] booleans -> {
+                if (value instanceof Boolean bool) {
+                    booleans[index] = bool;
+                } else if (value instanceof String str && (str.equalsIgnoreCase("true") || str.equalsIgnoreCase("false"))) {
+                    booleans[index] = Boolean.parseBoolean(str);
+                } else {
+                    throw mismatch(container, value);
+                }
+            }
+            case char[] chars -> {
+                if (value instanceof Character c) {
+                    chars[index] = c;
+                } else if (value instanceof String str && str.length() == 1) {
+                    chars[index] = str.charAt(0);
+                } else {
+                    throw mismatch(container, value);
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected array: " + array.getClass().getName());
+        }
+    }
+
+    private static @NotNull IllegalArgumentException mismatch(@NotNull Class<?> type, @Nullable Object value) {
+        return new IllegalArgumentException("Cannot convert " + (value != null ? value.getClass().getName() : "null") + " to " + type.getName() + ": " + value);
+    }
+
+    private PrimitiveContainers() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.annotation.Comment;
+import dev.siroshun.serialization.annotation.metadata.ComponentMetadata;
+import dev.siroshun.serialization.annotation.metadata.RecordMetadata;
+import dev.siroshun.serialization.core.Serialization;
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import dev.siroshun.serialization.core.registry.SerializationRegistry;
+import dev.siroshun.serialization.core.stream.StructuredWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+final class RecordCodec<R extends Record> {
+
+    static <R extends Record> @NotNull RecordCodec<R> create(@NotNull Class<R> recordClass, @NotNull KeyGenerator keyGenerator,
+                                                             @Nullable SerializationRegistry<?> registry, boolean trackReferences) {
+        return create(recordClass, keyGenerator, registry, trackReferences, 0);
+    }
+
+    static <R extends Record> @NotNull RecordCodec<R> create(@NotNull Class<R> recordClass, @NotNull KeyGenerator keyGenerator,
+                                                             @Nullable SerializationRegistry<?> registry, boolean trackReferences, int parallelThreshold) {
+        return new Context(keyGenerator, registry, trackReferences, parallelThreshold).recordCodec(recordClass);
+    }
+
+    private final RecordMetadata<R> metadata;
+    private final boolean trackReferences;
+
+    private static final int MAX_PLANS = 8;
+
+    // assigned once by Context#build; nested codecs may be referenced before they are built to allow recursive records
+    private Component[] components;
+    private List<String> keys;
+    private Map<String, Integer> slots;
+
+    // slot-mapping plans compiled for the first input shapes, appended as a whole (copy-on-write) until MAX_PLANS
+    private volatile Plan[] plans = new Plan[0];
+
+    private RecordCodec(@NotNull RecordMetadata<R> metadata, boolean trackReferences) {
+        this.metadata = metadata;
+        this.trackReferences = trackReferences;
+    }
+
+    @NotNull Class<R> recordClass() {
+        return this.metadata.recordClass();
+    }
+
+    @NotNull List<String> keys() {
+        return this.keys;
+    }
+
+    int planCount() {
+        return this.plans.length;
+    }
+
+    @NotNull Map<String, Object> serialize(@NotNull R record) {
+        return this.serializeObject(record);
+    }
+
+    @NotNull Map<String, Object> serializeObject(@NotNull Object record) {
+        if (!this.trackReferences) {
+            var map = new LinkedHashMap<String, Object>(ValueConverters.capacity(this.keys.size()));
+            this.write(record, map);
+            return map;
+        }
+
+        var references = References.enter();
+
+        try {
+            int handle = references.handle(record);
+
+            if (0 <= handle) {
+                var map = new LinkedHashMap<String, Object>(2);
+                map.put(References.REF_KEY, handle);
+                return map;
+            }
+
+            var map = new LinkedHashMap<String, Object>(ValueConverters.capacity(this.keys.size() + 1));
+            map.put(References.ID_KEY, references.assign(record));
+            this.write(record, map);
+            return map;
+        } finally {
+            references.exit();
+        }
+    }
+
+    // inlined components write into the same map as their parent, so no intermediate maps are created
+    void write(@NotNull Object record, @NotNull Map<String, Object> out) {
+        for (var component : this.components) {
+            component.write(record, out);
+        }
+    }
+
+    void write(@NotNull Object record, @NotNull StructuredWriter writer) {
+        if (!this.trackReferences) {
+            writer.beginObject();
+            this.writeFields(record, writer);
+            writer.endObject();
+            return;
+        }
+
+        var references = References.enter();
+
+        try {
+            int handle = references.handle(record);
+            writer.beginObject();
+
+            if (0 <= handle) {
+                writer.name(References.REF_KEY);
+                writer.value(handle);
+            } else {
+                writer.name(References.ID_KEY);
+                writer.value(references.assign(record));
+                this.writeFields(record, writer);
+            }
+
+            writer.endObject();
+        } finally {
+            references.exit();
+        }
+    }
+
+    private void writeFields(@NotNull Object record, @NotNull StructuredWriter writer) {
+        for (var component : this.components) {
+            component.write(record, writer);
+        }
+    }
+
+    @NotNull R deserialize(@NotNull Map<String, ?> in) {
+        return this.read(in);
+    }
+
+    @NotNull R read(@NotNull Map<String, ?> in) {
+        if (!this.trackReferences) {
+            return this.read(this.toSlots(in), 0);
+        }
+
+        var references = References.enter();
+        references.root(in);
+
+        try {
+            var ref = in.get(References.REF_KEY);
+
+            if (ref != null) {
+                int handle = References.toHandle(ref);
+                var referenced = references.get(handle);
+
+                if (referenced == null) {
+                    // a forward reference: the record appears later in the reading order
+                    var target = references.find(handle);
+
+                    if (target == null) {
+                        throw new IllegalArgumentException("Unknown reference handle: " + handle);
+                    }
+
+                    referenced = this.read(target);
+                }
+
+                if (!this.recordClass().isInstance(referenced)) {
+                    throw new IllegalArgumentException("Reference " + ref + " is not " + this.recordClass().getName() + ": " + referenced);
+                }
+
+                return this.recordClass().cast(referenced);
+            }
+
+            var id = in.get(References.ID_KEY);
+
+            if (id == null) {
+                return this.read(this.toSlots(in), 0);
+            }
+
+            int handle = References.toHandle(id);
+            var existing = references.get(handle);
+
+            if (existing != null) {
+                // already read through a forward reference
+                if (!this.recordClass().isInstance(existing)) {
+                    throw new IllegalArgumentException("Reference " + id + " is not " + this.recordClass().getName() + ": " + existing);
+                }
+
+                return this.recordClass().cast(existing);
+            }
+
+            references.reserve(handle);
+            var record = this.read(this.toSlots(in), 0);
+            references.resolve(handle, record);
+            return record;
+        } finally {
+            references.exit();
+        }
+    }
+
+    private @NotNull R read(@NotNull Object[] slots, int offset) {
+        var args = new Object[this.components.length];
+
+        for (int i = 0; i < args.length; i++) {
+            args[i] = this.components[i].read(slots, offset);
+        }
+
+        return this.metadata.newInstance(args);
+    }
+
+    // Copies the values of the input into the flattened slots of this codec.
+    // Inputs of the same shape (the same keys in the same iteration order) are copied by the cached plan without hash lookups.
+    private @NotNull Object @NotNull [] toSlots(@NotNull Map<String, ?> in) {
+        var slots = new Object[this.keys.size()];
+        int size = in.size();
+
+        for (var plan : this.plans) {
+            if (plan.keys.length == size && plan.copy(in, slots)) {
+                return slots;
+            }
+
+            Arrays.fill(slots, null);
+        }
+
+        if (this.plans.length < MAX_PLANS) {
+            var plan = this.compile(in);
+            plan.copy(in, slots);
+        } else {
+            // the cache is full; fill the slots by name instead of replacing plans on every miss
+            this.fill(in, slots);
+        }
+
+        return slots;
+    }
+
+    private void fill(@NotNull Map<String, ?> in, @NotNull Object @NotNull [] slots) {
+        for (var entry : in.entrySet()) {
+            var slot = entry.getKey() != null ? this.slots.get(entry.getKey()) : null;
+
+            if (slot != null) {
+                slots[slot] = entry.getValue();
+            }
+        }
+    }
+
+    private @NotNull Plan compile(@NotNull Map<String, ?> in) {
+        var keys = new String[in.size()];
+        var indices = new int[keys.length];
+        int i = 0;
+
+        for (var key : in.keySet()) {
+            keys[i] = key;
+            var slot = key != null ? this.slots.get(key) : null;
+            indices[i] = slot != null ? slot : -1;
+            i++;
+        }
+
+        var plan = new Plan(keys, indices);
+        var current = this.plans;
+
+        // a plan published by a concurrent miss may be overwritten here; the lost shape is compiled again on its next miss
+        if (current.length < MAX_PLANS) {
+            var updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = plan;
+            this.plans = updated;
+        }
+
+        return plan;
+    }
+
+    private static void writeComment(@Nullable Comment comment, @NotNull StructuredWriter writer) {
+        if (comment != null) {
+            writer.writeComment(comment.type(), comment.value());
+        }
+    }
+
+    private record Plan(String[] keys, int[] slots) {
+
+        private boolean copy(@NotNull Map<String, ?> in, @NotNull Object[] target) {
+            int i = 0;
+
+            for (var entry : in.entrySet()) {
+                if (this.keys.length <= i || !Objects.equals(this.keys[i], entry.getKey())) {
+                    return false;
+                }
+
+                int slot = this.slots[i++];
+
+                if (slot >= 0) {
+                    target[slot] = entry.getValue();
+                }
+            }
+
+            return i == this.keys.length;
+        }
+    }
+
+    private sealed interface Component permits ValueComponent, InlineComponent {
+
+        void write(@NotNull Object record, @NotNull Map<String, Object> out);
+
+        void write(@NotNull Object record, @NotNull StructuredWriter writer);
+
+        Object read(@NotNull Object[] slots, int offset);
+
+    }
+
+    private record ValueComponent(ComponentMetadata metadata, String key, int slot,
+                                  UnaryOperator<Object> writer, UnaryOperator<Object> reader,
+                                  ValueConverters.ValueEmitter emitter, Supplier<Object> defaultValue) implements Component {
+
+        @Override
+        public void write(@NotNull Object record, @NotNull Map<String, Object> out) {
+            var value = this.metadata.get(record);
+
+            if (value != null) {
+                out.put(this.key, this.writer.apply(value));
+            }
+        }
+
+        @Override
+        public void write(@NotNull Object record, @NotNull StructuredWriter writer) {
+            var value = this.metadata.get(record);
+
+            if (value != null) {
+                writeComment(this.metadata.comment(), writer);
+                writer.name(this.key);
+                this.emitter.emit(value, writer);
+            }
+        }
+
+        @Override
+        public Object read(@NotNull Object[] slots, int offset) {
+            var raw = slots[offset + this.slot];
+            var value = raw != null ? this.reader.apply(raw) : null;
+            return value != null ? value : this.defaultValue.get();
+        }
+    }
+
+    private record InlineComponent(ComponentMetadata metadata, RecordCodec<?> codec, int offset) implements Component {
+
+        @Override
+        public void write(@NotNull Object record, @NotNull Map<String, Object> out) {
+            var value = this.metadata.get(record);
+
+            if (value != null) {
+                this.codec.write(value, out);
+            }
+        }
+
+        @Override
+        public void write(@NotNull Object record, @NotNull StructuredWriter writer) {
+            var value = this.metadata.get(record);
+
+            if (value != null) {
+                writeComment(this.metadata.comment(), writer);
+                this.codec.writeFields(value, writer);
+            }
+        }
+
+        @Override
+        public Object read(@NotNull Object[] slots, int offset) {
+            return this.codec.read(slots, offset + this.offset);
+        }
+    }
+
+    private static final class Context implements ValueConverters.Resolver {
+
+        private final KeyGenerator keyGenerator;
+        private final @Nullable SerializationRegistry<?> registry;
+        private final boolean trackReferences;
+        private final int parallelThreshold;
+        private final Map<Class<?>, RecordCodec<?>> codecs = new HashMap<>();
+
+        private Context(@NotNull KeyGenerator keyGenerator, @Nullable SerializationRegistry<?> registry, boolean trackReferences, int parallelThreshold) {
+            this.keyGenerator = keyGenerator;
+            this.registry = registry;
+            this.trackReferences = trackReferences;
+            this.parallelThreshold = parallelThreshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NotNull RecordCodec<?> codec(@NotNull Class<?> recordClass) {
+            return this.recordCodec((Class<? extends Record>) recordClass);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @Nullable Serialization<Object, Object> serialization(@NotNull Class<?> type) {
+            return this.registry != null ? (Serialization<Object, Object>) this.registry.get(type) : null;
+        }
+
+        @Override
+        public int parallelThreshold() {
+            return this.parallelThreshold;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <R extends Record> @NotNull RecordCodec<R> recordCodec(@NotNull Class<R> recordClass) {
+            var existing = this.codecs.get(recordClass);
+
+            if (existing != null) {
+                return (RecordCodec<R>) existing;
+            }
+
+            var codec = new RecordCodec<>(RecordMetadata.get(recordClass), this.trackReferences);
+            this.codecs.put(recordClass, codec);
+            this.build(codec);
+            return codec;
+        }
+
+        private void build(@NotNull RecordCodec<?> codec) {
+            var metadata = codec.metadata;
+            var componentMetadata = metadata.components();
+            var componentKeys = metadata.keys(this.keyGenerator);
+
+            var components = new Component[componentMetadata.size()];
+            var keys = new ArrayList<String>(components.length);
+
+            for (int i = 0; i < components.length; i++) {
+                var component = componentMetadata.get(i);
+
+                if (component.isInline()) {
+                    var inline = this.inline(metadata, component, keys.size());
+                    components[i] = inline;
+                    keys.addAll(inline.codec().keys());
+                } else {
+                    var key = componentKeys.get(i);
+                    components[i] = this.value(component, key, keys.size());
+                    keys.add(key);
+                }
+            }
+
+            var slots = new HashMap<String, Integer>(ValueConverters.capacity(keys.size()));
+
+            for (int i = 0; i < keys.size(); i++) {
+                if (slots.putIfAbsent(keys.get(i), i) != null) {
+                    throw new IllegalArgumentException("Duplicate key '" + keys.get(i) + "' in " + metadata.recordClass().getName());
+                }
+            }
+
+            codec.keys = List.copyOf(keys);
+            codec.slots = slots;
+            codec.components = components;
+        }
+
+        private @NotNull InlineComponent inline(@NotNull RecordMetadata<?> parent, @NotNull ComponentMetadata component, int offset) {
+            if (!component.type().isRecord()) {
+                throw new IllegalArgumentException("@Inline component must be a record: " + component.name() + " of " + parent.recordClass().getName());
+            }
+
+            var codec = this.codec(component.type());
+
+            if (codec.components == null) {
+                throw new IllegalArgumentException("Circular @Inline component: " + component.name() + " of " + parent.recordClass().getName());
+            }
+
+            return new InlineComponent(component, codec, offset);
+        }
+
+        private @NotNull ValueComponent value(@NotNull ComponentMetadata component, @NotNull String key, int slot) {
+            var type = component.genericType();
+            var elementType = component.collectionType();
+            var keyType = component.mapKeyType();
+            var valueType = component.mapValueType();
+
+            var reader = ValueConverters.reader(type, elementType, keyType, valueType, this);
+            var intern = component.intern();
+
+            if (intern != null) {
+                reader = ValueConverters.interning(type, reader, intern.maximumSize());
+            }
+
+            return new ValueComponent(
+                    component,
+                    key,
+                    slot,
+                    ValueConverters.writer(type, elementType, keyType, valueType, this),
+                    reader,
+                    ValueConverters.emitter(type, elementType, keyType, valueType, this),
+                    defaultValue(component, reader)
+            );
+        }
+
+        // constant default values are converted once here instead of on every read
+        private static @NotNull Supplier<Object> defaultValue(@NotNull ComponentMetadata component, @NotNull UnaryOperator<Object> reader) {
+            if (component.isDefaultValueConstant()) {
+                var raw = component.defaultValue();
+                var converted = raw != null ? reader.apply(raw) : null;
+                return () -> converted;
+            }
+
+            return () -> {
+                var raw = component.defaultValue();
+                return raw != null ? reader.apply(raw) : null;
+            };
+        }
+    }
+}
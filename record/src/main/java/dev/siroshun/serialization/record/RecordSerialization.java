@@ -0,0 +1,221 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.core.Serialization;
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import dev.siroshun.serialization.core.registry.SerializationRegistry;
+import dev.siroshun.serialization.core.stream.StructuredWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Serialization} that serializes records to {@link Map}s and deserializes records from {@link Map}s.
+ * <p>
+ * Each record component is written to the map with the key generated from the component name.
+ * Components annotated with {@link dev.siroshun.serialization.annotation.Inline} are flattened into the parent map,
+ * and components that are records are serialized to nested maps.
+ * <p>
+ * Components of {@link dev.siroshun.serialization.codec.collection.IntList}, {@link dev.siroshun.serialization.codec.collection.LongList},
+ * {@link dev.siroshun.serialization.codec.collection.IntLongMap} and primitive array types are put into the map as-is,
+ * and are deserialized from them or from collections/maps of numbers without boxed intermediate collections.
+ * {@code @CollectionType} and {@code @MapType} with primitive types select these types
+ * (see {@link dev.siroshun.serialization.codec.collection.PrimitiveCollections}) when the declared type of the component can hold them.
+ * <p>
+ * When deserializing, the default values specified by {@code @Default*} annotations are used for missing keys.
+ * The values of components annotated with {@link dev.siroshun.serialization.annotation.Intern} are interned
+ * (see {@link dev.siroshun.serialization.core.Deserializer#interning(dev.siroshun.serialization.core.Deserializer, int)}),
+ * so equal values and their default values share one instance.
+ *
+ * @param <R> the type of the record
+ */
+public interface RecordSerialization<R extends Record> extends Serialization<R, Map<String, Object>> {
+
+    /**
+     * Creates a new {@link RecordSerialization} that uses the component names as keys.
+     *
+     * @param recordClass the record class
+     * @param <R>         the type of the record
+     * @return a new {@link RecordSerialization}
+     * @throws IllegalArgumentException if the record class cannot be (de)serialized
+     */
+    static <R extends Record> @NotNull RecordSerialization<R> create(@NotNull Class<R> recordClass) {
+        return create(recordClass, KeyGenerator.AS_IS);
+    }
+
+    /**
+     * Creates a new {@link RecordSerialization} that uses the keys generated by the {@link KeyGenerator}.
+     *
+     * @param recordClass  the record class
+     * @param keyGenerator the {@link KeyGenerator} to generate keys from the component names
+     * @param <R>          the type of the record
+     * @return a new {@link RecordSerialization}
+     * @throws IllegalArgumentException if the record class cannot be (de)serialized
+     */
+    static <R extends Record> @NotNull RecordSerialization<R> create(@NotNull Class<R> recordClass, @NotNull KeyGenerator keyGenerator) {
+        Objects.requireNonNull(recordClass);
+        Objects.requireNonNull(keyGenerator);
+        return new RecordSerializationImpl<>(RecordCodec.create(recordClass, keyGenerator, null, false));
+    }
+
+    /**
+     * Creates a new {@link RecordSerialization} that uses the keys generated by the {@link KeyGenerator}
+     * and the {@link Serialization}s in the {@link SerializationRegistry}.
+     * <p>
+     * The values of the components whose types are registered in the {@link SerializationRegistry}
+     * (including the elements of collections and the keys/values of maps) are (de)serialized by the registered {@link Serialization}s,
+     * and the serialized results are put into the map as-is.
+     * The registry is looked up only when creating the {@link RecordSerialization},
+     * so the {@link Serialization}s registered after that are not used.
+     *
+     * @param recordClass  the record class
+     * @param keyGenerator the {@link KeyGenerator} to generate keys from the component names
+     * @param registry     the {@link SerializationRegistry} to (de)serialize the values of the components
+     * @param <R>          the type of the record
+     * @return a new {@link RecordSerialization}
+     * @throws IllegalArgumentException if the record class cannot be (de)serialized
+     */
+    static <R extends Record> @NotNull RecordSerialization<R> create(@NotNull Class<R> recordClass, @NotNull KeyGenerator keyGenerator,
+                                                                     @NotNull SerializationRegistry<?> registry) {
+        return create(recordClass, keyGenerator, registry, false);
+    }
+
+    /**
+     * Creates a new {@link RecordSerialization} that uses the keys generated by the {@link KeyGenerator}
+     * and the {@link Serialization}s in the {@link SerializationRegistry}, optionally tracking references.
+     * <p>
+     * When {@code trackReferences} is {@code true}, the maps of records get the {@code "@id"} key
+     * that numbers the records in the order they first appear, and a record that appears again
+     * in the same (de)serialization is written as a map that only has the {@code "@ref"} key with its number.
+     * This shrinks the results of object graphs with shared records, and lets cycles through mutable collections
+     * be serialized instead of overflowing the stack. When deserializing, each referenced record is resolved
+     * to the same instance, and maps without {@code "@id"} are accepted as untracked records.
+     * Since records are constructed after their components, a reference to a record that is still being deserialized
+     * (that is, a cycle) cannot be resolved.
+     * <p>
+     * Values (de)serialized by the {@link Serialization}s in the {@link SerializationRegistry}
+     * and {@link dev.siroshun.serialization.annotation.Inline} components are not tracked.
+     *
+     * @param recordClass     the record class
+     * @param keyGenerator    the {@link KeyGenerator} to generate keys from the component names
+     * @param registry        the {@link SerializationRegistry} to (de)serialize the values of the components
+     * @param trackReferences whether to emit back-references for records that appear more than once
+     * @param <R>             the type of the record
+     * @return a new {@link RecordSerialization}
+     * @throws IllegalArgumentException if the record class cannot be (de)serialized
+     */
+    static <R extends Record> @NotNull RecordSerialization<R> create(@NotNull Class<R> recordClass, @NotNull KeyGenerator keyGenerator,
+                                                                     @NotNull SerializationRegistry<?> registry, boolean trackReferences) {
+        Objects.requireNonNull(recordClass);
+        Objects.requireNonNull(keyGenerator);
+        Objects.requireNonNull(registry);
+        return new RecordSerializationImpl<>(RecordCodec.create(recordClass, keyGenerator, registry, trackReferences));
+    }
+
+    /**
+     * Creates a new {@link RecordSerialization} that uses the keys generated by the {@link KeyGenerator}
+     * and the {@link Serialization}s in the {@link SerializationRegistry}, converting large collections and maps in parallel.
+     * <p>
+     * When {@code parallelThreshold} is positive, the elements of collection and map components
+     * that have more than {@code parallelThreshold} elements are converted in parallel
+     * using {@link dev.siroshun.serialization.core.concurrent.ParallelSerializers} and
+     * {@link dev.siroshun.serialization.core.concurrent.ParallelDeserializers} on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * The resulting collections keep the iteration order of the inputs. Unlike the sequential conversion,
+     * a map whose two keys are converted to equal objects causes a {@link dev.siroshun.serialization.core.SerializationException}.
+     * {@link #write(Record, StructuredWriter)} always writes on the calling thread.
+     * <p>
+     * The {@link Serialization}s in the {@link SerializationRegistry} must be thread-safe.
+     * Since references are tracked per thread, the parallel conversion cannot be combined with tracking references.
+     *
+     * @param recordClass       the record class
+     * @param keyGenerator      the {@link KeyGenerator} to generate keys from the component names
+     * @param registry          the {@link SerializationRegistry} to (de)serialize the values of the components
+     * @param trackReferences   whether to emit back-references for records that appear more than once
+     * @param parallelThreshold the maximum number of elements to convert on the calling thread, or {@code 0} to disable the parallel conversion
+     * @param <R>               the type of the record
+     * @return a new {@link RecordSerialization}
+     * @throws IllegalArgumentException if the record class cannot be (de)serialized, {@code parallelThreshold} is negative,
+     *                                  or {@code trackReferences} is {@code true} and {@code parallelThreshold} is positive
+     * @see #create(Class, KeyGenerator, SerializationRegistry, boolean)
+     */
+    static <R extends Record> @NotNull RecordSerialization<R> create(@NotNull Class<R> recordClass, @NotNull KeyGenerator keyGenerator,
+                                                                     @NotNull SerializationRegistry<?> registry, boolean trackReferences,
+                                                                     int parallelThreshold) {
+        Objects.requireNonNull(recordClass);
+        Objects.requireNonNull(keyGenerator);
+        Objects.requireNonNull(registry);
+
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException("parallelThreshold must not be negative: " + parallelThreshold);
+        }
+
+        if (trackReferences && parallelThreshold != 0) {
+            throw new IllegalArgumentException("Cannot track references while converting in parallel");
+        }
+
+        return new RecordSerializationImpl<>(RecordCodec.create(recordClass, keyGenerator, registry, trackReferences, parallelThreshold));
+    }
+
+    /**
+     * Gets the record class that this {@link RecordSerialization} handles.
+     *
+     * @return the record class
+     */
+    @NotNull Class<R> recordClass();
+
+    /**
+     * Serializes the record to a new {@link Map}.
+     *
+     * @param record the record to serialize
+     * @return a new {@link Map} that contains the values of the record
+     */
+    @NotNull Map<String, Object> serialize(@NotNull R record);
+
+    /**
+     * Writes the record to the {@link StructuredWriter}.
+     * <p>
+     * Unlike {@link #serialize(Record)}, this method does not create {@link Map}s,
+     * and emits {@link dev.siroshun.serialization.annotation.Comment}s of the components
+     * through {@link StructuredWriter#writeComment(String, String)} before their names.
+     *
+     * @param record the record to write
+     * @param writer the {@link StructuredWriter} to write to
+     */
+    void write(@NotNull R record, @NotNull StructuredWriter writer);
+
+    /**
+     * Deserializes the record from the {@link Map}.
+     *
+     * @param map the {@link Map} to deserialize
+     * @return the deserialized record
+     * @throws IllegalArgumentException if the map contains a value that cannot be converted to the component type,
+     *                                  or a reference that cannot be resolved
+     */
+    @NotNull R deserialize(@NotNull Map<String, ?> map);
+
+    @Override
+    default boolean hasSerializer() {
+        return true;
+    }
+
+    @Override
+    default boolean hasDeserializer() {
+        return true;
+    }
+}
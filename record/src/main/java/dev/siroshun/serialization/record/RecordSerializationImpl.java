@@ -0,0 +1,75 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.Serializer;
+import dev.siroshun.serialization.core.stream.StructuredWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Objects;
+
+final class RecordSerializationImpl<R extends Record> implements RecordSerialization<R> {
+
+    private final RecordCodec<R> codec;
+    private final Serializer<R, Map<String, Object>> serializer = this::serialize;
+    private final Deserializer<Map<String, Object>, R> deserializer = this::deserialize;
+
+    RecordSerializationImpl(@NotNull RecordCodec<R> codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public @NotNull Class<R> recordClass() {
+        return this.codec.recordClass();
+    }
+
+    @Override
+    public @NotNull Map<String, Object> serialize(@NotNull R record) {
+        Objects.requireNonNull(record);
+        return this.codec.serialize(record);
+    }
+
+    @Override
+    public void write(@NotNull R record, @NotNull StructuredWriter writer) {
+        Objects.requireNonNull(record);
+        Objects.requireNonNull(writer);
+        this.codec.write(record, writer);
+    }
+
+    @Override
+    public @NotNull R deserialize(@NotNull Map<String, ?> map) {
+        Objects.requireNonNull(map);
+        return this.codec.deserialize(map);
+    }
+
+    @Override
+    public @NotNull Serializer<R, Map<String, Object>> serializer() {
+        return this.serializer;
+    }
+
+    @Override
+    public @NotNull Deserializer<Map<String, Object>, R> deserializer() {
+        return this.deserializer;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordSerialization{" + this.codec.recordClass().getName() + "}";
+    }
+}
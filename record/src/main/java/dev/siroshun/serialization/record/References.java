@@ -0,0 +1,275 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Per-thread state of a reference-tracking (de)serialization.
+// Records are numbered in the order they first appear when serializing, but the handles are looked up by their values
+// when deserializing, since the input maps may not keep the written order. The handles are kept in primitive arrays to avoid boxing.
+final class References {
+
+    static final String ID_KEY = "@id";
+    static final String REF_KEY = "@ref";
+
+    private static final ThreadLocal<References> CURRENT = new ThreadLocal<>();
+    private static final Object PENDING = new Object();
+
+    static @NotNull References enter() {
+        var references = CURRENT.get();
+
+        if (references == null) {
+            references = new References();
+            CURRENT.set(references);
+        }
+
+        references.depth++;
+        return references;
+    }
+
+    static int toHandle(@NotNull Object value) {
+        try {
+            int handle = value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString().trim());
+
+            if (handle < 0) {
+                throw new IllegalArgumentException("Negative reference handle: " + value);
+            }
+
+            return handle;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid reference handle: " + value, e);
+        }
+    }
+
+    private int depth;
+
+    // serializing: open-addressed identity map from objects to their handles
+    private Object[] keys;
+    private int[] handles;
+    private int size;
+
+    // deserializing: open-addressed map from handles (stored as handle + 1, 0 for empty slots) to objects
+    private int[] ids;
+    private Object[] objects;
+    private int count;
+    private Map<?, ?> root;
+
+    private References() {
+    }
+
+    void exit() {
+        if (--this.depth == 0) {
+            CURRENT.remove();
+        }
+    }
+
+    // returns the handle of the object if it has been seen, otherwise -1
+    int handle(@NotNull Object object) {
+        if (this.keys == null) {
+            return -1;
+        }
+
+        int mask = this.keys.length - 1;
+
+        for (int i = hash(object) & mask; ; i = (i + 1) & mask) {
+            var key = this.keys[i];
+
+            if (key == object) {
+                return this.handles[i];
+            } else if (key == null) {
+                return -1;
+            }
+        }
+    }
+
+    int assign(@NotNull Object object) {
+        if (this.keys == null) {
+            this.keys = new Object[16];
+            this.handles = new int[16];
+        } else if (this.keys.length <= (this.size + 1) * 2) {
+            this.rehash(this.keys.length * 2);
+        }
+
+        int handle = this.size++;
+        this.insert(object, handle);
+        return handle;
+    }
+
+    // remembers the outermost input to find the records of forward references
+    void root(@NotNull Map<?, ?> in) {
+        if (this.root == null) {
+            this.root = in;
+        }
+    }
+
+    // returns the object of the handle, or null if the handle has not been read
+    @Nullable Object get(int handle) {
+        if (this.ids == null) {
+            return null;
+        }
+
+        int mask = this.ids.length - 1;
+
+        for (int i = hash(handle) & mask; ; i = (i + 1) & mask) {
+            int id = this.ids[i];
+
+            if (id == handle + 1) {
+                var object = this.objects[i];
+
+                if (object == PENDING) {
+                    throw new IllegalArgumentException("Cyclic reference to a record that is not constructed yet: " + handle);
+                }
+
+                return object;
+            } else if (id == 0) {
+                return null;
+            }
+        }
+    }
+
+    void reserve(int handle) {
+        this.put(handle, PENDING);
+    }
+
+    void resolve(int handle, @NotNull Object object) {
+        this.put(handle, object);
+    }
+
+    // finds the map that has the handle as @id in the input
+    @SuppressWarnings("unchecked")
+    @Nullable Map<String, ?> find(int handle) {
+        return this.root != null ? (Map<String, ?>) find(this.root, handle) : null;
+    }
+
+    private static @Nullable Map<?, ?> find(@Nullable Object value, int handle) {
+        if (value instanceof Map<?, ?> map) {
+            var id = map.get(ID_KEY);
+
+            if (id != null && isHandle(id, handle)) {
+                return map;
+            }
+
+            for (var child : map.values()) {
+                var found = find(child, handle);
+
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (value instanceof Collection<?> collection) {
+            for (var element : collection) {
+                var found = find(element, handle);
+
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isHandle(@NotNull Object id, int handle) {
+        try {
+            return toHandle(id) == handle;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void put(int handle, @NotNull Object object) {
+        if (this.ids == null) {
+            this.ids = new int[16];
+            this.objects = new Object[16];
+        } else if (this.ids.length <= (this.count + 1) * 2) {
+            var oldIds = this.ids;
+            var oldObjects = this.objects;
+
+            this.ids = new int[oldIds.length * 2];
+            this.objects = new Object[oldIds.length * 2];
+
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] != 0) {
+                    this.insert(oldIds[i], oldObjects[i]);
+                }
+            }
+        }
+
+        if (this.insert(handle + 1, object)) {
+            this.count++;
+        }
+    }
+
+    // returns true if the id is newly added
+    private boolean insert(int id, @NotNull Object object) {
+        int mask = this.ids.length - 1;
+        int i = hash(id - 1) & mask;
+
+        while (this.ids[i] != 0) {
+            if (this.ids[i] == id) {
+                this.objects[i] = object;
+                return false;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        this.ids[i] = id;
+        this.objects[i] = object;
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = this.keys;
+        var oldHandles = this.handles;
+
+        this.keys = new Object[capacity];
+        this.handles = new int[capacity];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                this.insert(oldKeys[i], oldHandles[i]);
+            }
+        }
+    }
+
+    private void insert(@NotNull Object object, int handle) {
+        int mask = this.keys.length - 1;
+        int i = hash(object) & mask;
+
+        while (this.keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+
+        this.keys[i] = object;
+        this.handles[i] = handle;
+    }
+
+    private static int hash(@NotNull Object object) {
+        int h = System.identityHashCode(object);
+        return h ^ (h >>> 16);
+    }
+
+    private static int hash(int handle) {
+        int h = handle * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
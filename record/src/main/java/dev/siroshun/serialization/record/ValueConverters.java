@@ -0,0 +1,459 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.core.Deserializer;
+import dev.siroshun.serialization.core.EnumSerialization;
+import dev.siroshun.serialization.core.Serialization;
+import dev.siroshun.serialization.core.concurrent.ParallelDeserializers;
+import dev.siroshun.serialization.core.concurrent.ParallelSerializers;
+import dev.siroshun.serialization.core.stream.StructuredWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+final class ValueConverters {
+
+    static final UnaryOperator<Object> IDENTITY = value -> value;
+
+    // reader: converts a value in the input map to the type; returns null if the value should be replaced with the default
+    static @NotNull UnaryOperator<Object> reader(@NotNull Type type, @NotNull Resolver resolver) {
+        return reader(type, null, null, null, resolver);
+    }
+
+    static @NotNull UnaryOperator<Object> reader(@NotNull Type type, @Nullable Type elementType,
+                                                 @Nullable Type keyType, @Nullable Type valueType,
+                                                 @NotNull Resolver resolver) {
+        var raw = wrap(rawType(type));
+        var serialization = resolver.serialization(rawType(type));
+
+        if (serialization != null && serialization.hasDeserializer()) {
+            var deserializer = serialization.deserializer();
+            return value -> raw.isInstance(value) ? value : deserializer.deserialize(value);
+        }
+
+        var container = PrimitiveContainers.containerType(raw, elementType, keyType, valueType);
+
+        if (container != null) {
+            return PrimitiveContainers.reader(container);
+        }
+
+        if (Record.class.isAssignableFrom(raw)) {
+            var codec = resolver.codec(raw);
+            return value -> {
+                if (value instanceof Map<?, ?> map) {
+                    return codec.read(castKeys(map));
+                } else if (raw.isInstance(value)) {
+                    return value;
+                }
+                throw mismatch(raw, value);
+            };
+        }
+
+        if (raw.isEnum()) {
+            return enumReader(raw);
+        }
+
+        if (Collection.class.isAssignableFrom(raw)) {
+            var element = reader(elementType != null ? elementType : typeArgument(type, 0), resolver);
+            boolean set = Set.class.isAssignableFrom(raw);
+            int threshold = resolver.parallelThreshold();
+            var parallel = threshold != 0 ? ParallelDeserializers.<Object, Object>collection(element::apply, threshold, ForkJoinPool.commonPool()) : null;
+            return value -> {
+                if (!(value instanceof Collection<?> collection)) {
+                    throw mismatch(raw, value);
+                }
+
+                if (element == IDENTITY && raw.isInstance(value)) {
+                    return value;
+                }
+
+                if (parallel != null && threshold < collection.size()) {
+                    var list = parallel.deserialize(collection);
+                    return set ? new LinkedHashSet<>(list) : list;
+                }
+
+                Collection<Object> result = set ? new LinkedHashSet<>(capacity(collection.size())) : new ArrayList<>(collection.size());
+                for (var e : collection) {
+                    result.add(e != null ? element.apply(e) : null);
+                }
+                return result;
+            };
+        }
+
+        if (Map.class.isAssignableFrom(raw)) {
+            var keyReader = reader(keyType != null ? keyType : typeArgument(type, 0), resolver);
+            var valueReader = reader(valueType != null ? valueType : typeArgument(type, 1), resolver);
+            int threshold = resolver.parallelThreshold();
+            var parallel = threshold != 0 ? ParallelDeserializers.<Object, Object, Object, Object>map(keyReader::apply, valueReader::apply, threshold, ForkJoinPool.commonPool()) : null;
+            return value -> {
+                if (!(value instanceof Map<?, ?> map)) {
+                    throw mismatch(raw, value);
+                }
+
+                if (keyReader == IDENTITY && valueReader == IDENTITY && raw.isInstance(value)) {
+                    return value;
+                }
+
+                if (parallel != null && threshold < map.size()) {
+                    return parallel.deserialize(map);
+                }
+
+                var result = new LinkedHashMap<>(capacity(map.size()));
+                for (var entry : map.entrySet()) {
+                    result.put(keyReader.apply(entry.getKey()), entry.getValue() != null ? valueReader.apply(entry.getValue()) : null);
+                }
+                return result;
+            };
+        }
+
+        var scalar = scalarReader(raw);
+
+        if (scalar != null) {
+            return scalar;
+        }
+
+        if (raw == Object.class) {
+            return IDENTITY;
+        }
+
+        return value -> {
+            if (raw.isInstance(value)) {
+                return value;
+            }
+            throw mismatch(raw, value);
+        };
+    }
+
+    // wraps the reader of an @Intern component; equal values (including converted defaults) share one instance
+    static @NotNull UnaryOperator<Object> interning(@NotNull Type type, @NotNull UnaryOperator<Object> reader, int maximumSize) {
+        var raw = wrap(rawType(type));
+
+        if (Collection.class.isAssignableFrom(raw) || Map.class.isAssignableFrom(raw) || raw.isArray() || Record.class.isAssignableFrom(raw)) {
+            throw new IllegalArgumentException("@Intern cannot be used for " + raw.getName());
+        }
+
+        var deserializer = Deserializer.<Object, Object>interning(reader::apply, maximumSize);
+        return deserializer::deserialize;
+    }
+
+    static @NotNull UnaryOperator<Object> writer(@NotNull Type type, @NotNull Resolver resolver) {
+        return writer(type, null, null, null, resolver);
+    }
+
+    static @NotNull UnaryOperator<Object> writer(@NotNull Type type, @Nullable Type elementType,
+                                                 @Nullable Type keyType, @Nullable Type valueType,
+                                                 @NotNull Resolver resolver) {
+        var raw = wrap(rawType(type));
+        var serialization = resolver.serialization(rawType(type));
+
+        if (serialization != null && serialization.hasSerializer()) {
+            var serializer = serialization.serializer();
+            return serializer::serialize;
+        }
+
+        if (PrimitiveContainers.containerType(raw, elementType, keyType, valueType) != null) {
+            // primitive containers are put into the map as-is without boxing their elements
+            return IDENTITY;
+        }
+
+        if (Record.class.isAssignableFrom(raw)) {
+            var codec = resolver.codec(raw);
+            return codec::serializeObject;
+        }
+
+        if (raw.isEnum()) {
+            return value -> ((Enum<?>) value).name();
+        }
+
+        if (Collection.class.isAssignableFrom(raw)) {
+            var element = writer(elementType != null ? elementType : typeArgument(type, 0), resolver);
+
+            if (element == IDENTITY) {
+                return IDENTITY;
+            }
+
+            int threshold = resolver.parallelThreshold();
+            var parallel = threshold != 0 ? ParallelSerializers.<Object, Object>collection(element::apply, threshold, ForkJoinPool.commonPool()) : null;
+
+            return value -> {
+                var collection = (Collection<?>) value;
+
+                if (parallel != null && threshold < collection.size()) {
+                    return parallel.serialize(collection);
+                }
+
+                var result = new ArrayList<>(collection.size());
+                for (var e : collection) {
+                    result.add(e != null ? element.apply(e) : null);
+                }
+                return result;
+            };
+        }
+
+        if (Map.class.isAssignableFrom(raw)) {
+            var keyWriter = writer(keyType != null ? keyType : typeArgument(type, 0), resolver);
+            var valueWriter = writer(valueType != null ? valueType : typeArgument(type, 1), resolver);
+
+            if (keyWriter == IDENTITY && valueWriter == IDENTITY) {
+                return IDENTITY;
+            }
+
+            int threshold = resolver.parallelThreshold();
+            var parallel = threshold != 0 ? ParallelSerializers.<Object, Object, Object, Object>map(keyWriter::apply, valueWriter::apply, threshold, ForkJoinPool.commonPool()) : null;
+
+            return value -> {
+                var map = (Map<?, ?>) value;
+
+                if (parallel != null && threshold < map.size()) {
+                    return parallel.serialize(map);
+                }
+
+                var result = new LinkedHashMap<>(capacity(map.size()));
+                for (var entry : map.entrySet()) {
+                    result.put(keyWriter.apply(entry.getKey()), entry.getValue() != null ? valueWriter.apply(entry.getValue()) : null);
+                }
+                return result;
+            };
+        }
+
+        return IDENTITY;
+    }
+
+    static @NotNull ValueEmitter emitter(@NotNull Type type, @Nullable Type elementType,
+                                         @Nullable Type keyType, @Nullable Type valueType,
+                                         @NotNull Resolver resolver) {
+        var raw = wrap(rawType(type));
+        var serialization = resolver.serialization(rawType(type));
+
+        if (serialization != null && serialization.hasSerializer()) {
+            var serializer = serialization.serializer();
+            return (value, writer) -> writer.value(serializer.serialize(value));
+        }
+
+        var container = PrimitiveContainers.containerType(raw, elementType, keyType, valueType);
+
+        if (container != null) {
+            return PrimitiveContainers.emitter(container);
+        }
+
+        if (Record.class.isAssignableFrom(raw)) {
+            var codec = resolver.codec(raw);
+            return codec::write;
+        }
+
+        if (raw.isEnum()) {
+            return (value, writer) -> writer.value(((Enum<?>) value).name());
+        }
+
+        if (Collection.class.isAssignableFrom(raw)) {
+            var element = emitter(elementType != null ? elementType : typeArgument(type, 0), null, null, null, resolver);
+            return (value, writer) -> {
+                writer.beginArray();
+                for (var e : (Collection<?>) value) {
+                    if (e != null) {
+                        element.emit(e, writer);
+                    } else {
+                        writer.value(null);
+                    }
+                }
+                writer.endArray();
+            };
+        }
+
+        if (Map.class.isAssignableFrom(raw)) {
+            var keyWriter = writer(keyType != null ? keyType : typeArgument(type, 0), resolver);
+            var valueEmitter = emitter(valueType != null ? valueType : typeArgument(type, 1), null, null, null, resolver);
+            return (value, writer) -> {
+                writer.beginObject();
+                for (var entry : ((Map<?, ?>) value).entrySet()) {
+                    writer.name(String.valueOf(keyWriter.apply(entry.getKey())));
+                    if (entry.getValue() != null) {
+                        valueEmitter.emit(entry.getValue(), writer);
+                    } else {
+                        writer.value(null);
+                    }
+                }
+                writer.endObject();
+            };
+        }
+
+        return (value, writer) -> writer.value(value);
+    }
+
+    static @NotNull Class<?> rawType(@NotNull Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        } else if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        } else if (type instanceof GenericArrayType array) {
+            return rawType(array.getGenericComponentType()).arrayType();
+        } else if (type instanceof TypeVariable<?> variable) {
+            return rawType(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    static @NotNull Map<String, ?> castKeys(@NotNull Map<?, ?> map) {
+        return (Map<String, ?>) map;
+    }
+
+    private static @NotNull Type typeArgument(@NotNull Type type, int index) {
+        if (type instanceof ParameterizedType parameterized && index < parameterized.getActualTypeArguments().length) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        return Object.class;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static @NotNull UnaryOperator<Object> enumReader(@NotNull Class<?> enumClass) {
+        var deserializer = EnumSerialization.byName((Class) enumClass, null).deserializer();
+        return value -> {
+            if (enumClass.isInstance(value)) {
+                return value;
+            } else if (value instanceof String name) {
+                return deserializer.deserialize(name);
+            }
+            throw mismatch(enumClass, value);
+        };
+    }
+
+    private static @Nullable UnaryOperator<Object> scalarReader(@NotNull Class<?> type) {
+        if (type == String.class) {
+            return value -> {
+                if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character) {
+                    return value.toString();
+                }
+                throw mismatch(type, value);
+            };
+        } else if (type == Boolean.class) {
+            return value -> {
+                if (value instanceof Boolean) {
+                    return value;
+                } else if (value instanceof String str) {
+                    if (str.equalsIgnoreCase("true")) {
+                        return Boolean.TRUE;
+                    } else if (str.equalsIgnoreCase("false")) {
+                        return Boolean.FALSE;
+                    }
+                }
+                throw mismatch(type, value);
+            };
+        } else if (type == Character.class) {
+            return value -> {
+                if (value instanceof Character) {
+                    return value;
+                } else if (value instanceof String str && str.length() == 1) {
+                    return str.charAt(0);
+                }
+                throw mismatch(type, value);
+            };
+        } else if (type == Integer.class) {
+            return numberReader(type, Number::intValue, Integer::parseInt);
+        } else if (type == Long.class) {
+            return numberReader(type, Number::longValue, Long::parseLong);
+        } else if (type == Double.class) {
+            return numberReader(type, Number::doubleValue, Double::parseDouble);
+        } else if (type == Float.class) {
+            return numberReader(type, Number::floatValue, Float::parseFloat);
+        } else if (type == Short.class) {
+            return numberReader(type, Number::shortValue, Short::parseShort);
+        } else if (type == Byte.class) {
+            return numberReader(type, Number::byteValue, Byte::parseByte);
+        }
+        return null;
+    }
+
+    private static @NotNull UnaryOperator<Object> numberReader(@NotNull Class<?> type,
+                                                               @NotNull Function<Number, Object> fromNumber,
+                                                               @NotNull Function<String, Object> fromString) {
+        return value -> {
+            if (type.isInstance(value)) {
+                return value;
+            } else if (value instanceof Number number) {
+                return fromNumber.apply(number);
+            } else if (value instanceof String str) {
+                return fromString.apply(str.trim());
+            }
+            throw mismatch(type, value);
+        };
+    }
+
+    private static @NotNull Class<?> wrap(@NotNull Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return switch (type.getName()) {
+            case "boolean" -> Boolean.class;
+            case "byte" -> Byte.class;
+            case "char" -> Character.class;
+            case "short" -> Short.class;
+            case "int" -> Integer.class;
+            case "long" -> Long.class;
+            case "float" -> Float.class;
+            case "double" -> Double.class;
+            default -> Void.class;
+        };
+    }
+
+    private static @NotNull IllegalArgumentException mismatch(@NotNull Class<?> type, @NotNull Object value) {
+        return new IllegalArgumentException("Cannot convert " + value.getClass().getName() + " to " + type.getName() + ": " + value);
+    }
+
+    interface Resolver {
+
+        @NotNull RecordCodec<?> codec(@NotNull Class<?> recordClass);
+
+        @Nullable Serialization<Object, Object> serialization(@NotNull Class<?> type);
+
+        // 0 if collections and maps are always converted on the calling thread
+        int parallelThreshold();
+
+    }
+
+    @FunctionalInterface
+    interface ValueEmitter {
+
+        void emit(@NotNull Object value, @NotNull StructuredWriter writer);
+
+    }
+
+    private ValueConverters() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+/**
+ * A module providing codecs for records.
+ */
+module dev.siroshun.serialization.record {
+    requires transitive dev.siroshun.serialization.core;
+    requires transitive dev.siroshun.serialization.annotation;
+    requires transitive dev.siroshun.serialization.codec;
+    requires org.jetbrains.annotations;
+
+    exports dev.siroshun.serialization.record;
+}
@@ -0,0 +1,487 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.annotation.CollectionType;
+import dev.siroshun.serialization.annotation.DefaultEnum;
+import dev.siroshun.serialization.annotation.DefaultInt;
+import dev.siroshun.serialization.annotation.DefaultMethod;
+import dev.siroshun.serialization.annotation.DefaultString;
+import dev.siroshun.serialization.annotation.Inline;
+import dev.siroshun.serialization.annotation.Intern;
+import dev.siroshun.serialization.annotation.MapType;
+import dev.siroshun.serialization.annotation.metadata.RecordMetadata;
+import dev.siroshun.serialization.codec.collection.IntList;
+import dev.siroshun.serialization.codec.collection.IntLongMap;
+import dev.siroshun.serialization.codec.collection.LongList;
+import dev.siroshun.serialization.core.Serialization;
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import dev.siroshun.serialization.core.registry.SerializationRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RecordSerializationTest {
+
+    @Test
+    void testSimple() {
+        var serialization = RecordSerialization.create(Simple.class);
+        var record = new Simple(1, "test", 2.5, Mode.SECOND, List.of("a", "b"));
+        var map = serialization.serialize(record);
+
+        Assertions.assertEquals(Map.of("id", 1, "name", "test", "ratio", 2.5, "mode", "SECOND", "tags", List.of("a", "b")), map);
+        Assertions.assertEquals(List.of("id", "name", "ratio", "mode", "tags"), List.copyOf(map.keySet()));
+        Assertions.assertEquals(record, serialization.deserialize(map));
+        Assertions.assertEquals(record, serialization.deserializer().deserialize(serialization.serializer().serialize(record)));
+    }
+
+    @Test
+    void testConversion() {
+        var serialization = RecordSerialization.create(Simple.class);
+        var record = serialization.deserialize(Map.of("id", 5L, "name", 10, "ratio", "1.5", "mode", "second", "tags", List.of("x")));
+        Assertions.assertEquals(new Simple(5, "10", 1.5, Mode.SECOND, List.of("x")), record);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serialization.deserialize(Map.of("id", List.of())));
+    }
+
+    @Test
+    void testDefaults() {
+        var record = RecordSerialization.create(Defaults.class).deserialize(Map.of("mode", "unknown"));
+        Assertions.assertEquals(new Defaults(10, "default", Mode.SECOND, List.of("created"), 0L), record);
+    }
+
+    @Test
+    void testDefaultConversion() {
+        var serialization = RecordSerialization.create(ConvertedDefaults.class);
+
+        Assertions.assertEquals(new ConvertedDefaults(7, 1), serialization.deserialize(Map.of()));
+        Assertions.assertEquals(new ConvertedDefaults(7, 2), serialization.deserialize(Map.of()));
+        Assertions.assertEquals(new ConvertedDefaults(3, 3), serialization.deserialize(Map.of("value", 3, "sequence", 3)));
+
+        var metadata = RecordMetadata.get(ConvertedDefaults.class);
+        Assertions.assertTrue(metadata.components().get(0).isDefaultValueConstant());
+        Assertions.assertFalse(metadata.components().get(1).isDefaultValueConstant());
+    }
+
+    @Test
+    void testNested() {
+        var serialization = RecordSerialization.create(Nested.class);
+        var record = new Nested(new Simple(1, "a", 0, Mode.FIRST, List.of()), List.of(new Simple(2, "b", 1, Mode.SECOND, List.of("c"))));
+        var map = serialization.serialize(record);
+
+        Assertions.assertInstanceOf(Map.class, map.get("simple"));
+        Assertions.assertInstanceOf(Map.class, ((List<?>) map.get("list")).get(0));
+        Assertions.assertEquals(record, serialization.deserialize(map));
+    }
+
+    @Test
+    void testInline() {
+        var serialization = RecordSerialization.create(Outer.class);
+        var record = new Outer("outer", new Middle(1, new Inner("x", "y")));
+        var map = serialization.serialize(record);
+
+        Assertions.assertEquals(Map.of("name", "outer", "level", 1, "first", "x", "second", "y"), map);
+        Assertions.assertEquals(record, serialization.deserialize(map));
+        Assertions.assertEquals(new Outer("o", new Middle(0, new Inner("x", null))), serialization.deserialize(Map.of("name", "o", "first", "x")));
+    }
+
+    @Test
+    void testInputShapes() {
+        var serialization = RecordSerialization.create(Outer.class);
+        var expected = new Outer("o", new Middle(3, new Inner("x", "y")));
+
+        var ordered = new LinkedHashMap<String, Object>();
+        ordered.put("name", "o");
+        ordered.put("level", 3);
+        ordered.put("first", "x");
+        ordered.put("second", "y");
+
+        var reversed = new LinkedHashMap<String, Object>();
+        reversed.put("second", "y");
+        reversed.put("unknown", true);
+        reversed.put("first", "x");
+        reversed.put("level", 3);
+        reversed.put("name", "o");
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(expected, serialization.deserialize(ordered));
+            Assertions.assertEquals(expected, serialization.deserialize(reversed));
+        }
+
+        var missing = new LinkedHashMap<String, Object>(ordered);
+        missing.remove("level");
+        Assertions.assertEquals(new Outer("o", new Middle(0, new Inner("x", "y"))), serialization.deserialize(missing));
+
+        // more shapes than the plan cache holds
+        for (int i = 0; i < 20; i++) {
+            var map = new LinkedHashMap<String, Object>();
+            map.put("extra" + i, i);
+            map.putAll(ordered);
+            map.put("level", i);
+            Assertions.assertEquals(new Outer("o", new Middle(i, new Inner("x", "y"))), serialization.deserialize(map));
+        }
+    }
+
+    @Test
+    void testManyKeyOrders() {
+        var codec = RecordCodec.create(Inner.class, KeyGenerator.AS_IS, null, false);
+        var keys = List.of("first", "second", "a", "b");
+
+        // 4! = 24 key orders, each read twice
+        for (int round = 0; round < 2; round++) {
+            for (var order : permutations(keys)) {
+                var map = new LinkedHashMap<String, Object>();
+                for (var key : order) {
+                    map.put(key, key + "-value");
+                }
+                Assertions.assertEquals(new Inner("first-value", "second-value"), codec.deserialize(map), order.toString());
+                Assertions.assertTrue(codec.planCount() <= 8);
+            }
+        }
+
+        Assertions.assertEquals(8, codec.planCount());
+    }
+
+    private static List<List<String>> permutations(List<String> list) {
+        if (list.isEmpty()) {
+            return List.of(List.of());
+        }
+
+        var result = new ArrayList<List<String>>();
+        for (var head : list) {
+            var rest = new ArrayList<>(list);
+            rest.remove(head);
+            for (var tail : permutations(rest)) {
+                var permutation = new ArrayList<String>();
+                permutation.add(head);
+                permutation.addAll(tail);
+                result.add(permutation);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void testKeyGenerator() {
+        var serialization = RecordSerialization.create(Camel.class, KeyGenerator.CAMEL_TO_SNAKE);
+        var map = serialization.serialize(new Camel("value"));
+
+        Assertions.assertEquals(Map.of("camel_case_name", "value"), map);
+        Assertions.assertEquals(new Camel("value"), serialization.deserialize(map));
+    }
+
+    @Test
+    void testRegistry() {
+        var registry = SerializationRegistry.<String>create()
+                .register(UUID.class, Serialization.create(UUID::toString, UUID::fromString))
+                .freeze();
+        var serialization = RecordSerialization.create(Identified.class, KeyGenerator.AS_IS, registry);
+        var record = new Identified(UUID.randomUUID(), List.of(UUID.randomUUID()));
+        var map = serialization.serialize(record);
+
+        Assertions.assertEquals(record.id().toString(), map.get("id"));
+        Assertions.assertEquals(List.of(record.others().get(0).toString()), map.get("others"));
+        Assertions.assertEquals(record, serialization.deserialize(map));
+    }
+
+    @Test
+    void testRecursive() {
+        var serialization = RecordSerialization.create(Node.class);
+        var record = new Node(1, new Node(2, new Node(3, null)));
+        Assertions.assertEquals(record, serialization.deserialize(serialization.serialize(record)));
+    }
+
+    @Test
+    void testPrimitiveContainers() {
+        var serialization = RecordSerialization.create(Telemetry.class);
+        var totals = IntLongMap.create();
+        totals.put(1, 100L);
+        var record = new Telemetry(IntList.of(1, 2), LongList.of(3L), totals, new double[]{0.5}, IntList.of(4), totals);
+
+        var map = serialization.serialize(record);
+        Assertions.assertSame(record.ids(), map.get("ids"));
+        Assertions.assertSame(record.totals(), map.get("totals"));
+        Assertions.assertSame(record.weights(), map.get("weights"));
+        Assertions.assertSame(record.samples(), map.get("samples"));
+
+        var deserialized = serialization.deserialize(map);
+        Assertions.assertEquals(record.ids(), deserialized.ids());
+        Assertions.assertEquals(record.times(), deserialized.times());
+        Assertions.assertEquals(record.totals(), deserialized.totals());
+        Assertions.assertArrayEquals(record.weights(), deserialized.weights());
+        Assertions.assertEquals(record.samples(), deserialized.samples());
+        Assertions.assertEquals(record.counters(), deserialized.counters());
+
+        var fromBoxed = serialization.deserialize(Map.of(
+                "ids", List.of(1, 2),
+                "times", new long[]{3L},
+                "totals", Map.of("1", 100),
+                "weights", List.of(0.5),
+                "samples", List.of("4"),
+                "counters", Map.of(1, 100L)
+        ));
+        Assertions.assertEquals(IntList.of(1, 2), fromBoxed.ids());
+        Assertions.assertEquals(LongList.of(3L), fromBoxed.times());
+        Assertions.assertEquals(totals, fromBoxed.totals());
+        Assertions.assertArrayEquals(new double[]{0.5}, fromBoxed.weights());
+        Assertions.assertEquals(IntList.of(4), fromBoxed.samples());
+        Assertions.assertEquals(totals, fromBoxed.counters());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serialization.deserialize(Map.of("ids", List.of(true))));
+    }
+
+    @Test
+    void testIntern() {
+        var serialization = RecordSerialization.create(Country.class);
+
+        var first = serialization.deserialize(Map.of("code", new String("US"), "name", new String("United States")));
+        var second = serialization.deserialize(Map.of("code", new String("US"), "name", new String("United States")));
+        Assertions.assertSame(first.code(), second.code());
+        Assertions.assertNotSame(first.name(), second.name());
+
+        var defaulted = serialization.deserialize(Map.of("name", "Japan"));
+        Assertions.assertEquals("JP", defaulted.code());
+        Assertions.assertSame(defaulted.code(), serialization.deserialize(Map.of("code", new String("JP"))).code());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordSerialization.create(InternedList.class));
+    }
+
+    @Test
+    void testTrackReferences() {
+        var serialization = RecordSerialization.create(Shared.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true);
+        var inner = new Inner("x", "y");
+        var record = new Shared(inner, inner, List.of(inner, new Inner("x", "y")));
+
+        var map = serialization.serialize(record);
+        Assertions.assertEquals(0, map.get("@id"));
+        Assertions.assertEquals(Map.of("@id", 1, "first", "x", "second", "y"), map.get("left"));
+        Assertions.assertEquals(Map.of("@ref", 1), map.get("right"));
+        Assertions.assertEquals(List.of(Map.of("@ref", 1), Map.of("@id", 2, "first", "x", "second", "y")), map.get("list"));
+
+        var deserialized = serialization.deserialize(map);
+        Assertions.assertEquals(record, deserialized);
+        Assertions.assertSame(deserialized.left(), deserialized.right());
+        Assertions.assertSame(deserialized.left(), deserialized.list().get(0));
+        Assertions.assertNotSame(deserialized.left(), deserialized.list().get(1));
+
+        // untracked maps are still accepted
+        Assertions.assertEquals(new Shared(inner, inner, List.of()), serialization.deserialize(Map.of(
+                "left", Map.of("first", "x", "second", "y"),
+                "right", Map.of("first", "x", "second", "y"),
+                "list", List.of()
+        )));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serialization.deserialize(Map.of("@id", 0, "left", Map.of("@ref", 5))));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serialization.deserialize(Map.of("@id", 0, "left", Map.of("@id", 0))));
+
+        var many = new ArrayList<Inner>();
+        for (int i = 0; i < 40; i++) {
+            many.add(new Inner("x" + i, "y"));
+        }
+        many.addAll(List.copyOf(many));
+
+        var large = serialization.deserialize(serialization.serialize(new Shared(inner, inner, many)));
+        Assertions.assertEquals(many, large.list());
+        for (int i = 0; i < 40; i++) {
+            Assertions.assertSame(large.list().get(i), large.list().get(i + 40));
+        }
+    }
+
+    @Test
+    void testReorderedReferences() {
+        var serialization = RecordSerialization.create(Catalog.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true);
+        var a = new Inner("a", "1");
+        var b = new Inner("b", "2");
+        var byName = new LinkedHashMap<String, Inner>();
+        byName.put("b", b);
+        byName.put("a", a);
+        var record = new Catalog(byName, List.of(a, b));
+
+        var map = serialization.serialize(record);
+        Assertions.assertEquals(List.of(Map.of("@ref", 2), Map.of("@ref", 1)), map.get("all"));
+
+        // sorted keys read "a" (@id 2) before "b" (@id 1)
+        var deserialized = serialization.deserialize(sorted(map));
+        Assertions.assertEquals(record, deserialized);
+        Assertions.assertSame(deserialized.byName().get("a"), deserialized.all().get(0));
+        Assertions.assertSame(deserialized.byName().get("b"), deserialized.all().get(1));
+
+        // a reference that is read before the record it refers to
+        var forward = new LinkedHashMap<String, Object>();
+        forward.put("all", List.of(Map.of("@ref", 5)));
+        forward.put("byName", Map.of("a", Map.of("@id", 5, "first", "a", "second", "1")));
+        var fromForward = RecordSerialization.create(Catalog.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true).deserialize(forward);
+        Assertions.assertEquals(new Catalog(Map.of("a", a), List.of(a)), fromForward);
+        Assertions.assertSame(fromForward.byName().get("a"), fromForward.all().get(0));
+    }
+
+    @Test
+    void testCyclicReferences() {
+        var serialization = RecordSerialization.create(Tree.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true);
+        var children = new ArrayList<Tree>();
+        var root = new Tree("root", children);
+        children.add(new Tree("child", List.of()));
+        children.add(root);
+
+        var map = serialization.serialize(root);
+        Assertions.assertEquals(
+                List.of(Map.of("@id", 1, "name", "child", "children", List.of()), Map.of("@ref", 0)),
+                map.get("children")
+        );
+
+        // a record cannot refer to itself before it is constructed
+        Assertions.assertThrows(IllegalArgumentException.class, () -> serialization.deserialize(map));
+    }
+
+    @Test
+    void testParallel() {
+        var serialization = RecordSerialization.create(Grouped.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), false, 8);
+
+        var ids = new LinkedHashSet<Integer>();
+        var byId = new LinkedHashMap<Integer, Inner>();
+
+        for (int i = 1000; 0 < i; i--) {
+            ids.add(i);
+            byId.put(i, new Inner("first-" + i, "second-" + i));
+        }
+
+        var grouped = new Grouped(ids, byId);
+        var serialized = serialization.serialize(grouped);
+        var deserialized = serialization.deserialize(serialized);
+
+        Assertions.assertEquals(grouped, deserialized);
+        Assertions.assertEquals(List.copyOf(ids), List.copyOf(deserialized.ids()));
+        Assertions.assertEquals(List.copyOf(byId.keySet()), List.copyOf(deserialized.byId().keySet()));
+        Assertions.assertEquals(Map.of("first", "first-1000", "second", "second-1000"), ((Map<?, ?>) serialized.get("byId")).get(1000));
+
+        // numbers in strings are converted like the sequential conversion
+        var strings = new LinkedHashMap<String, Object>();
+        strings.put("ids", ids.stream().map(String::valueOf).toList());
+        strings.put("byId", Map.of());
+        Assertions.assertEquals(List.copyOf(ids), List.copyOf(serialization.deserialize(strings).ids()));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordSerialization.create(Grouped.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), false, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordSerialization.create(Grouped.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true, 8));
+        Assertions.assertDoesNotThrow(() -> RecordSerialization.create(Grouped.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true, 0));
+    }
+
+    @Test
+    void testInvalidRecords() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordSerialization.create(DuplicateKey.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RecordSerialization.create(CircularInline.class));
+    }
+
+    private static Object sorted(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            var result = new TreeMap<String, Object>();
+            map.forEach((key, child) -> result.put(key.toString(), sorted(child)));
+            return result;
+        } else if (value instanceof List<?> list) {
+            return list.stream().map(RecordSerializationTest::sorted).toList();
+        } else {
+            return value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> sorted(Map<String, Object> map) {
+        return (Map<String, Object>) sorted((Object) map);
+    }
+
+    enum Mode {
+        FIRST,
+        SECOND
+    }
+
+    record Simple(int id, String name, double ratio, Mode mode, @CollectionType(String.class) List<String> tags) {
+    }
+
+    record ConvertedDefaults(@DefaultString("7") int value,
+                             @DefaultMethod(clazz = ConvertedDefaults.class, name = "next") int sequence) {
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        static int next() {
+            return SEQUENCE.incrementAndGet();
+        }
+    }
+
+    record Defaults(@DefaultInt(10) int value, @DefaultString("default") String name,
+                    @DefaultEnum("SECOND") Mode mode, @DefaultMethod(clazz = Defaults.class, name = "createList") List<String> list,
+                    long zero) {
+        static List<String> createList() {
+            return List.of("created");
+        }
+    }
+
+    record Nested(Simple simple, List<Simple> list) {
+    }
+
+    record Outer(String name, @Inline Middle middle) {
+    }
+
+    record Middle(int level, @Inline Inner inner) {
+    }
+
+    record Inner(String first, String second) {
+    }
+
+    record Camel(String camelCaseName) {
+    }
+
+    record Node(int value, Node next) {
+    }
+
+    record Identified(UUID id, List<UUID> others) {
+    }
+
+    record Telemetry(IntList ids, LongList times, IntLongMap totals, double[] weights,
+                     @CollectionType(int.class) Object samples, @MapType(key = int.class, value = long.class) Object counters) {
+    }
+
+    record Shared(Inner left, Inner right, List<Inner> list) {
+    }
+
+    record Catalog(@MapType(key = String.class, value = Inner.class) Map<String, Inner> byName,
+                   @CollectionType(Inner.class) List<Inner> all) {
+    }
+
+    record Country(@Intern @DefaultString("JP") String code, String name) {
+    }
+
+    record InternedList(@Intern List<String> values) {
+    }
+
+    record Tree(String name, List<Tree> children) {
+    }
+
+    record Grouped(Set<Integer> ids, Map<Integer, Inner> byId) {
+    }
+
+    record DuplicateKey(String first, @Inline Inner inner) {
+    }
+
+    record CircularInline(@Inline CircularInline self) {
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *     Copyright 2025 Siroshun09
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+package dev.siroshun.serialization.record;
+
+import dev.siroshun.serialization.annotation.Comment;
+import dev.siroshun.serialization.annotation.Inline;
+import dev.siroshun.serialization.core.key.KeyGenerator;
+import dev.siroshun.serialization.core.registry.SerializationRegistry;
+import dev.siroshun.serialization.core.stream.StructuredWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class StructuredWriteTest {
+
+    @Test
+    void testEvents() {
+        var serialization = RecordSerialization.create(Config.class);
+        var writer = new RecordingWriter();
+        var settings = new LinkedHashMap<String, Integer>();
+        settings.put("a", 1);
+
+        serialization.write(new Config("server", new Network("localhost", 25565), List.of(new Entry(true)), settings, null), writer);
+
+        Assertions.assertEquals(List.of(
+                "{",
+                "comment(block):The name of the server", "name:name", "value:server",
+                "comment(inline):Network settings", "name:host", "value:localhost",
+                "comment():The port", "name:port", "value:25565",
+                "name:entries", "[", "{", "name:enabled", "value:true", "}", "]",
+                "name:settings", "{", "name:a", "value:1", "}",
+                "}"
+        ), writer.events);
+    }
+
+    @Test
+    void testTrackReferences() {
+        var serialization = RecordSerialization.create(Pair.class, KeyGenerator.AS_IS, SerializationRegistry.empty(), true);
+        var writer = new RecordingWriter();
+        var entry = new Entry(false);
+
+        serialization.write(new Pair(entry, entry), writer);
+
+        Assertions.assertEquals(List.of(
+                "{", "name:@id", "value:0",
+                "name:first", "{", "name:@id", "value:1", "name:enabled", "value:false", "}",
+                "name:second", "{", "name:@ref", "value:1", "}",
+                "}"
+        ), writer.events);
+    }
+
+    record Config(@Comment(value = "The name of the server", type = "block") String name,
+                  @Comment(value = "Network settings", type = "inline") @Inline Network network,
+                  List<Entry> entries, Map<String, Integer> settings, String missing) {
+    }
+
+    record Network(String host, @Comment("The port") int port) {
+    }
+
+    record Entry(boolean enabled) {
+    }
+
+    record Pair(Entry first, Entry second) {
+    }
+
+    private static class RecordingWriter implements StructuredWriter {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void beginObject() {
+            this.events.add("{");
+        }
+
+        @Override
+        public void endObject() {
+            this.events.add("}");
+        }
+
+        @Override
+        public void beginArray() {
+            this.events.add("[");
+        }
+
+        @Override
+        public void endArray() {
+            this.events.add("]");
+        }
+
+        @Override
+        public void name(String name) {
+            this.events.add("name:" + name);
+        }
+
+        @Override
+        public void value(Object value) {
+            this.events.add("value:" + value);
+        }
+
+        @Override
+        public void writeComment(String type, String text) {
+            this.events.add("comment(" + type + "):" + text);
+        }
+    }
+}
@@ -29,7 +29,9 @@ val prefix = rootProject.name
 
 sequenceOf(
     "core",
-    "annotation"
+    "annotation",
+    "codec",
+    "record"
 ).forEach {
     include("$prefix-$it")
     project(":$prefix-$it").projectDir = file(it)